@@ -0,0 +1,15 @@
+#!/bin/sh
+# Build the game into bin/ and run the golden-frame suite
+# Exits non-zero when the build fails or a golden frame differs
+# Usage: ./build.sh [suite options, e.g. --timing]
+set -e
+cd "$(dirname "$0")"
+
+javac -encoding UTF-8 -d bin $(find src -name '*.java')
+
+# Optional SIMD kernel (needs the incubating Vector API)
+if java --add-modules jdk.incubator.vector -version > /dev/null 2>&1; then
+    javac -encoding UTF-8 --add-modules jdk.incubator.vector -cp bin -d bin $(find src-vector -name '*.java')
+fi
+
+java -Djava.awt.headless=true -cp bin com.spaceinvaders.bench.GoldenFrameSuite "$@"
@@ -0,0 +1,36 @@
+package com.spaceinvaders.utils;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kinematics using the incubating Vector API
+ * Only loaded by name from KinematicsKernel.create, so the game still runs without the module
+ * Kept out of src so the default build does not need the incubator module
+ */
+public class VectorKinematics implements KinematicsKernel {
+
+    // Widest vector shape the CPU supports
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public void integrate(float[] pos, float[] vel, int count, float dt) {
+        int i = 0;
+        int upperBound = SPECIES.loopBound(count);
+
+        // Full vectors - mul then add (not fma) so results match the scalar kernel
+        for (; i < upperBound; i += SPECIES.length()) {
+            FloatVector p = FloatVector.fromArray(SPECIES, pos, i);
+            FloatVector v = FloatVector.fromArray(SPECIES, vel, i);
+            p.add(v.mul(dt)).intoArray(pos, i);
+        }
+
+        // Tail
+        for (; i < count; i++) {
+            pos[i] += vel[i] * dt;
+        }
+    }
+
+    @Override
+    public String getName() { return "vector (" + SPECIES.length() + " lanes)"; }
+}
@@ -1,6 +1,9 @@
 package com.spaceinvaders;
 
+import com.spaceinvaders.game.Calibration;
 import com.spaceinvaders.game.GameFrame;
+import com.spaceinvaders.game.TerminalGame;
+import java.util.Arrays;
 import javax.swing.SwingUtilities;
 
 /**
@@ -8,6 +11,16 @@ import javax.swing.SwingUtilities;
  */
 public class Main {
     public static void main(String[] args) {
+        // Terminal mode (--terminal) - no window, the game is drawn as text (SSH sessions)
+        if (Arrays.asList(args).contains("--terminal")) {
+            TerminalGame.prepare();
+            SwingUtilities.invokeLater(TerminalGame::start);
+            return;
+        }
+
+        // Pick the Java2D pipeline and sprite format (must happen before AWT starts)
+        Calibration.apply();
+
         // Run on Swing's Event Dispatch Thread (this required for GUI)
         SwingUtilities.invokeLater(new Runnable() {
             @Override
@@ -0,0 +1,199 @@
+package com.spaceinvaders.bench;
+
+import com.spaceinvaders.game.GoldenScene;
+import com.spaceinvaders.utils.Constants;
+import com.spaceinvaders.utils.Settings;
+import com.spaceinvaders.utils.SoundManager;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import javax.imageio.ImageIO;
+
+/**
+ * Golden-frame suite - visual regression check of every renderer
+ * Every golden scene is drawn with each render mode and compared with its
+ * stored PNG in resources/golden (the dirty renderer's back buffer is built up
+ * frame by frame while the scene plays). Fails (exit code 1) when a frame differs
+ * With --timing each renderer's game loop frame is also timed, shown next to the full renderer's
+ * time on the same scene, and fails when it got slower than the time recorded
+ * on this machine (times are not portable, so they are kept out of the repo)
+ * Run with: java -Djava.awt.headless=true -cp bin com.spaceinvaders.bench.GoldenFrameSuite [--update] [--timing]
+ *   --update  store the current frames as the golden ones (and the times, with --timing)
+ *   --timing  also time the renders against the recorded times
+ */
+public class GoldenFrameSuite {
+
+    private static final File GOLDEN_DIR = new File("resources/golden");
+    private static final File FAILURE_DIR = new File("golden-failures");
+    private static final File TIMINGS_FILE = new File("golden-timings.properties");
+
+    // Render modes checked (the golden frame is drawn with the first)
+    private static final int[] RENDER_MODES = {
+        Constants.RENDER_MODE_FULL, Constants.RENDER_MODE_SOFTWARE, Constants.RENDER_MODE_PARALLEL, Constants.RENDER_MODE_DIRTY
+    };
+
+    // Pixel check - a pixel differs when a channel is off by more than CHANNEL_TOLERANCE,
+    // and a frame fails with more than MAX_DIFFERENT_PIXELS of those (font rasterizer noise)
+    private static final int CHANNEL_TOLERANCE = 4;
+    private static final int MAX_DIFFERENT_PIXELS = 50;
+
+    // Timing - best of several runs, fails when slower than the recorded time by this factor
+    private static final int WARMUP_FRAMES = 200;
+    private static final int FRAMES = 200;
+    private static final int RUNS = 5;
+    private static final double SLOWDOWN_LIMIT = 1.5;
+
+    public static void main(String[] args) throws IOException {
+        List<String> options = Arrays.asList(args);
+        boolean update = options.contains("--update");
+        boolean timing = options.contains("--timing");
+
+        Properties timings = loadTimings();
+        Settings settings = Settings.getInstance();
+        settings.setGraphicsQuality(Constants.QUALITY_HIGH);
+        SoundManager.getInstance().setSoundEnabled(false);
+
+        BufferedImage image = new BufferedImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        int failures = 0;
+
+        System.out.printf("%-12s %-9s %12s %12s %8s  %s%n", "scene", "renderer", "ns/frame", "recorded", "vs full", "result");
+
+        for (String name : GoldenScene.NAMES) {
+            File goldenFile = new File(GOLDEN_DIR, name + ".png");
+            long fullNs = 0;
+
+            for (int mode : RENDER_MODES) {
+                settings.setRenderMode(mode);
+                String modeName = settings.getRenderModeName();
+                GoldenScene scene = GoldenScene.create(name);
+                draw(scene, image);
+
+                // Pixels
+                String result;
+                if (update && mode == RENDER_MODES[0]) {
+                    GOLDEN_DIR.mkdirs();
+                    ImageIO.write(image, "png", goldenFile);
+                    result = "stored";
+                } else if (!goldenFile.exists()) {
+                    result = "FAIL no golden frame (run with --update)";
+                } else {
+                    result = compare(pixels, ImageIO.read(goldenFile));
+                }
+
+                // Speed (recorded on this machine; the full renderer's time for comparison)
+                long ns = timing ? measure(scene, image) : 0;
+                String key = name + "." + modeName;
+                long recorded = timing ? Long.parseLong(timings.getProperty(key, "0")) : 0;
+                if (mode == RENDER_MODES[0]) {
+                    fullNs = ns;
+                }
+                if (update && timing) {
+                    timings.setProperty(key, String.valueOf(ns));
+                } else if (recorded > 0 && ns > recorded * SLOWDOWN_LIMIT && result.equals("ok")) {
+                    result = String.format("FAIL %.2fx slower", (double) ns / recorded);
+                }
+
+                if (result.startsWith("FAIL")) {
+                    failures++;
+                    FAILURE_DIR.mkdirs();
+                    ImageIO.write(image, "png", new File(FAILURE_DIR, name + "-" + modeName + ".png"));
+                }
+                System.out.printf("%-12s %-9s %12s %12s %8s  %s%n", name, modeName,
+                    ns > 0 ? String.valueOf(ns) : "-", recorded > 0 ? String.valueOf(recorded) : "-",
+                    ns > 0 && fullNs > 0 ? String.format("%.2fx", (double) ns / fullNs) : "-", result);
+            }
+        }
+
+        if (update && timing) {
+            try (FileWriter writer = new FileWriter(TIMINGS_FILE)) {
+                timings.store(writer, "Golden-frame render times in ns/frame (this machine only)");
+            }
+        }
+
+        System.out.println(failures == 0 ? "All golden frames match." : failures + " check(s) failed, frames in " + FAILURE_DIR);
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    private static void draw(GoldenScene scene, BufferedImage image) {
+        Graphics2D g = image.createGraphics();
+        scene.draw(g);
+        g.dispose();
+    }
+
+    private static void drawLoopFrame(GoldenScene scene, BufferedImage image) {
+        Graphics2D g = image.createGraphics();
+        scene.drawLoopFrame(g);
+        g.dispose();
+    }
+
+    /**
+     * Compare a frame with its golden image
+     * @return "ok" or a FAIL message
+     */
+    private static String compare(int[] pixels, BufferedImage golden) {
+        if (golden.getWidth() != Constants.WINDOW_WIDTH || golden.getHeight() != Constants.WINDOW_HEIGHT) {
+            return "FAIL golden frame is " + golden.getWidth() + "x" + golden.getHeight();
+        }
+
+        int[] expected = golden.getRGB(0, 0, golden.getWidth(), golden.getHeight(), null, 0, golden.getWidth());
+        int different = 0;
+        int maxDelta = 0;
+        for (int i = 0; i < expected.length; i++) {
+            int a = expected[i];
+            int b = pixels[i];
+            int delta = Math.max(Math.abs(((a >> 16) & 0xff) - ((b >> 16) & 0xff)),
+                Math.max(Math.abs(((a >> 8) & 0xff) - ((b >> 8) & 0xff)), Math.abs((a & 0xff) - (b & 0xff))));
+            if (delta > CHANNEL_TOLERANCE) {
+                different++;
+            }
+            maxDelta = Math.max(maxDelta, delta);
+        }
+
+        if (different > MAX_DIFFERENT_PIXELS) {
+            return "FAIL " + different + " pixels differ (max delta " + maxDelta + ")";
+        }
+        return "ok";
+    }
+
+    /**
+     * Time the scene's game loop frame (dirty mode: only its damage)
+     * @return nanoseconds per frame (best run)
+     */
+    private static long measure(GoldenScene scene, BufferedImage image) {
+        // Warm up so the JIT compiles the drawing code
+        for (int f = 0; f < WARMUP_FRAMES; f++) {
+            drawLoopFrame(scene, image);
+        }
+
+        // Best of several runs to filter out GC and scheduler noise
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            for (int f = 0; f < FRAMES; f++) {
+                drawLoopFrame(scene, image);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / FRAMES;
+    }
+
+    private static Properties loadTimings() {
+        Properties timings = new Properties();
+        if (TIMINGS_FILE.exists()) {
+            try (FileReader reader = new FileReader(TIMINGS_FILE)) {
+                timings.load(reader);
+            } catch (IOException e) {
+                System.out.println("Could not read recorded times: " + e.getMessage());
+            }
+        }
+        return timings;
+    }
+}
@@ -0,0 +1,85 @@
+package com.spaceinvaders.bench;
+
+import com.spaceinvaders.utils.KinematicsKernel;
+import java.util.Random;
+
+/**
+ * Compares the scalar and vector kinematics kernels
+ * Run with: java --add-modules jdk.incubator.vector -cp bin com.spaceinvaders.bench.KinematicsBenchmark
+ */
+public class KinematicsBenchmark {
+
+    // Object counts to test (normal play up to stress mode)
+    private static final int[] COUNTS = {256, 2048, 16384, 131072};
+
+    // Simulated frames per measurement
+    private static final int FRAMES = 2000;
+
+    // Measured runs per kernel and count
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) {
+        KinematicsKernel scalar = KinematicsKernel.create("scalar");
+        KinematicsKernel vector = KinematicsKernel.create("vector");
+
+        if (vector.getName().equals(scalar.getName())) {
+            System.out.println("Vector kernel not available - only the scalar kernel will be measured.");
+        }
+
+        System.out.printf("%-10s %-22s %14s %10s%n", "objects", "kernel", "ns/object", "speedup");
+
+        for (int count : COUNTS) {
+            double scalarNs = measure(scalar, count);
+            System.out.printf("%-10d %-22s %14.3f %10s%n", count, scalar.getName(), scalarNs, "1.00x");
+
+            if (vector != scalar && !vector.getName().equals(scalar.getName())) {
+                double vectorNs = measure(vector, count);
+                System.out.printf("%-10d %-22s %14.3f %9.2fx%n", count, vector.getName(), vectorNs, scalarNs / vectorNs);
+            }
+        }
+    }
+
+    /**
+     * Time one 2D integration step per frame over count objects
+     * @return nanoseconds per object update
+     */
+    private static double measure(KinematicsKernel kernel, int count) {
+        Random random = new Random(42);
+        float[] x = new float[count];
+        float[] y = new float[count];
+        float[] vx = new float[count];
+        float[] vy = new float[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = random.nextFloat() * 800;
+            y[i] = random.nextFloat() * 600;
+            vx[i] = (random.nextFloat() - 0.5f) * 200;
+            vy[i] = (random.nextFloat() - 0.5f) * 200;
+        }
+
+        float dt = 1f / 60f;
+
+        // Warm up so the JIT compiles the kernel
+        for (int f = 0; f < FRAMES * 5; f++) {
+            kernel.integrate2D(x, y, vx, vy, count, dt);
+            dt = -dt; // Move back and forth so values stay bounded
+        }
+
+        // Best of several runs to filter out GC and scheduler noise
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            for (int f = 0; f < FRAMES; f++) {
+                kernel.integrate2D(x, y, vx, vy, count, dt);
+                dt = -dt;
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        // Keep the result alive
+        if (x[count / 2] == Float.MIN_VALUE) {
+            System.out.println();
+        }
+
+        return (double) best / ((long) FRAMES * count);
+    }
+}
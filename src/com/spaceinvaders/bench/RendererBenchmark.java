@@ -0,0 +1,82 @@
+package com.spaceinvaders.bench;
+
+import com.spaceinvaders.entities.SpriteAtlas;
+import com.spaceinvaders.game.SampleScene;
+import com.spaceinvaders.game.SoftwareRenderer;
+import com.spaceinvaders.utils.Constants;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+/**
+ * Compares Java2D and the software framebuffer renderer on one game scene
+ * Also checks that both produce the same pixels
+ * Run with: java -Djava.awt.headless=true -cp bin com.spaceinvaders.bench.RendererBenchmark
+ */
+public class RendererBenchmark {
+
+    // Rendered frames per measurement
+    private static final int FRAMES = 500;
+
+    // Measured runs per renderer
+    private static final int RUNS = 5;
+
+    // Mid-wave scene with damage, shots and effects
+    private static SampleScene scene;
+
+    public static void main(String[] args) {
+        scene = SampleScene.battle();
+
+        BufferedImage java2dImage = new BufferedImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        SoftwareRenderer software = new SoftwareRenderer();
+
+        System.out.println("Sprite format: " + SpriteAtlas.getInstance().getFormat());
+        System.out.printf("%-10s %14s %10s%n", "renderer", "us/frame", "speedup");
+
+        double java2dNs = measure(() -> drawJava2D(java2dImage));
+        System.out.printf("%-10s %14.1f %10s%n", "java2d", java2dNs / 1000, "1.00x");
+
+        double softwareNs = measure(() -> scene.draw(software));
+        System.out.printf("%-10s %14.1f %9.2fx%n", "software", softwareNs / 1000, java2dNs / softwareNs);
+
+        // Same scene, same pixels?
+        int[] expected = ((DataBufferInt) java2dImage.getRaster().getDataBuffer()).getData();
+        int[] actual = software.getPixels();
+        int mismatches = 0;
+        for (int i = 0; i < expected.length; i++) {
+            if ((expected[i] & 0xffffff) != (actual[i] & 0xffffff)) mismatches++;
+        }
+        System.out.println("Mismatched pixels: " + mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void drawJava2D(BufferedImage image) {
+        Graphics2D g = image.createGraphics();
+        scene.draw(g);
+        g.dispose();
+    }
+
+    /**
+     * Time full frames with one renderer
+     * @return nanoseconds per frame (best run)
+     */
+    private static double measure(Runnable frame) {
+        // Warm up so the JIT compiles the drawing code
+        for (int f = 0; f < FRAMES * 2; f++) {
+            frame.run();
+        }
+
+        // Best of several runs to filter out GC and scheduler noise
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            for (int f = 0; f < FRAMES; f++) {
+                frame.run();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return (double) best / FRAMES;
+    }
+}
@@ -3,17 +3,19 @@ package com.spaceinvaders.entities;
 import com.spaceinvaders.utils.Constants;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
 
 /**
  * Single alien enemy with OPTIMIZED pixel art rendering
- * Uses cached sprites for better performance and uses delta time for consistent speed
+ * Drawn from the shared sprite atlas (two march frames) and uses delta time for consistent speed
  */
 public class Alien extends GameObject {
     
     // Which row is this alien in?
     private int row;
 
+    // Which column is this alien in?
+    private int column;
+
     // Points awarded when killed
     private int points;
 
@@ -25,11 +27,12 @@ public class Alien extends GameObject {
     private static final Color COLOR_MIDDLE = new Color(0, 255, 255); // Cyan (30 points)
     private static final Color COLOR_BOTTOM = new Color(0, 255, 0); // Green (10 points)
 
-    /* CACHED SPRITES (static = shared by all aliens) */
-    private static BufferedImage spriteTop;
-    private static BufferedImage spriteMiddle;
-    private static BufferedImage spriteBottom;
-    private static boolean spritesCreated = false;
+    // Alien type (0 = top, 1 = middle, 2 = bottom) and current march frame
+    private int type;
+    private int animationFrame;
+
+    // Slot in the formation's living-alien index (-1 = not alive)
+    private int livingSlot = -1;
 
     // Flag to track if we need to drop this frame
     private boolean shouldDrop = false;
@@ -39,10 +42,12 @@ public class Alien extends GameObject {
      * @param x starting X position
      * @param y starting Y position
      * @param row which row (0 = top, 4 = bottom)
+     * @param column which column (0 = left, 10 = right)
      */
-    public Alien(double x, double y, int row) {
+    public Alien(double x, double y, int row, int column) {
         super(x, y, Constants.ALIEN_WIDTH, Constants.ALIEN_HEIGHT);
         this.row = row;
+        this.column = column;
 
         // Set points based on row
         if (row == 0) {
@@ -53,49 +58,36 @@ public class Alien extends GameObject {
             this.points = Constants.SCORE_ROW_1; // Bottom row = 10;
         }
 
-        // Create sprites only once (first alien created)
-        if (!spritesCreated) {
-            createSprites();
-            spritesCreated = true;
+        // Sprite type based on row
+        if (row == 0) {
+            this.type = 0;
+        } else if (row <= 2) {
+            this.type = 1;
+        } else {
+            this.type = 2;
         }
     }
 
     /**
-     * Create cached sprite images for all alien types
-     * Called only ONCE when first alien is created
-     */
-    private static void createSprites() {
-        spriteTop = createAlienSprite(COLOR_TOP, 0);
-        spriteMiddle = createAlienSprite(COLOR_MIDDLE, 1);
-        spriteBottom = createAlienSprite(COLOR_BOTTOM, 2);
-    }
-    
-    /**
-     * Create a single alien sprite
-     * @param color The alien color
-     * @param type type 0 = top, 1 = middle, 2 = bottom
-     * @return BufferedImage of the alien sprite
+     * Paint one alien sprite at (0, 0) - used to build the sprite atlas
+     * @param type 0 = top, 1 = middle, 2 = bottom
+     * @param frame march frame (0 or 1)
      */
-    private static BufferedImage createAlienSprite(Color color, int type) {
-        // Create transparent image
-        BufferedImage sprite = new BufferedImage(
-            Constants.ALIEN_WIDTH, 
-            Constants.ALIEN_HEIGHT, 
-            BufferedImage.TYPE_INT_ARGB
-        );
-
-        Graphics2D g = sprite.createGraphics();
-        g.setColor(color);
-
-        // Draw based on type
+    static void paintSprite(Graphics2D g, int type, int frame) {
         switch (type) {
-            case 0 -> drawTopAlienPixels(g);
-            case 1 -> drawMiddleAlienPixels(g);
-            case 2 -> drawBottomAlienPixels(g);
+            case 0 -> {
+                g.setColor(COLOR_TOP);
+                drawTopAlienPixels(g, frame);
+            }
+            case 1 -> {
+                g.setColor(COLOR_MIDDLE);
+                drawMiddleAlienPixels(g, frame);
+            }
+            case 2 -> {
+                g.setColor(COLOR_BOTTOM);
+                drawBottomAlienPixels(g, frame);
+            }
         }
-
-        g.dispose();
-        return sprite;
     }
 
     @Override
@@ -113,18 +105,8 @@ public class Alien extends GameObject {
 
     @Override
     public void render(Graphics2D g2d) {
-        // Simply draw the cached sprite
-        BufferedImage sprite;
-
-        if (row == 0) {
-            sprite = spriteTop;  // Octopus Alien - Purple color
-        } else if (row <= 2) {
-            sprite = spriteMiddle;  // Grab Alien - Cyan color
-        } else {
-            sprite = spriteBottom;   // Squid Alien - Green color
-        }
-
-        g2d.drawImage(sprite, (int) x, (int) y, null);
+        // Blit the current march frame from the sprite atlas
+        SpriteAtlas.getInstance().draw(g2d, SpriteAtlas.alienSprite(type, animationFrame), (int) x, (int) y);
     }
 
     /**
@@ -138,7 +120,7 @@ public class Alien extends GameObject {
     /**
      * Draw top alien pixels to graphics context (Octopus) - Purple
      */
-    private static void drawTopAlienPixels(Graphics2D g) {
+    private static void drawTopAlienPixels(Graphics2D g, int frame) {
         // Row 0:     ████
         drawPixelAt(g, 4, 0);
         drawPixelAt(g, 5, 0);
@@ -167,18 +149,30 @@ public class Alien extends GameObject {
         drawPixelAt(g, 3, 4);
         drawPixelAt(g, 8, 4);
 
-        // Row 5:   █      █
-        drawPixelAt(g, 2, 5);
-        drawPixelAt(g, 9, 5);
+        if (frame == 0) {
+            // Row 5:   █      █   (legs out)
+            drawPixelAt(g, 2, 5);
+            drawPixelAt(g, 9, 5);
+        } else {
+            // Row 5:     █  █     (legs in)
+            drawPixelAt(g, 4, 5);
+            drawPixelAt(g, 7, 5);
+        }
     }
 
     /**
      * Draw middle alien pixels to graphics context (Crab) - Cyan
      */
-    private static void drawMiddleAlienPixels(Graphics2D g) {
-        // Row 0:   █      █
-        drawPixelAt(g, 2, 0);
-        drawPixelAt(g, 9, 0);
+    private static void drawMiddleAlienPixels(Graphics2D g, int frame) {
+        if (frame == 0) {
+            // Row 0:   █      █   (antennas out)
+            drawPixelAt(g, 2, 0);
+            drawPixelAt(g, 9, 0);
+        } else {
+            // Row 0:    █    █    (antennas in)
+            drawPixelAt(g, 3, 0);
+            drawPixelAt(g, 8, 0);
+        }
 
         // Row 1:    ██████
         for (int i = 3; i <= 8; i++) {
@@ -203,15 +197,21 @@ public class Alien extends GameObject {
             drawPixelAt(g, i, 4);
         }
 
-        // Row 5:    █    █
-        drawPixelAt(g, 3, 5);
-        drawPixelAt(g, 8, 5);
+        if (frame == 0) {
+            // Row 5:    █    █    (feet in)
+            drawPixelAt(g, 3, 5);
+            drawPixelAt(g, 8, 5);
+        } else {
+            // Row 5:   █      █   (feet out)
+            drawPixelAt(g, 2, 5);
+            drawPixelAt(g, 9, 5);
+        }
     }
 
     /**
      * Draw bottom alien pixels to graphics context (Squid) - Green
      */
-    private static void drawBottomAlienPixels(Graphics2D g) {
+    private static void drawBottomAlienPixels(Graphics2D g, int frame) {
         // Row 0:     ████
         drawPixelAt(g, 4, 0);
         drawPixelAt(g, 5, 0);
@@ -234,13 +234,23 @@ public class Alien extends GameObject {
         drawPixelAt(g, 6, 3);
         drawPixelAt(g, 8, 3);
 
-        // Row 4:   █      █
-        drawPixelAt(g, 2, 4);
-        drawPixelAt(g, 9, 4);
+        if (frame == 0) {
+            // Row 4:   █      █
+            drawPixelAt(g, 2, 4);
+            drawPixelAt(g, 9, 4);
+
+            // Row 5:    █    █
+            drawPixelAt(g, 3, 5);
+            drawPixelAt(g, 8, 5);
+        } else {
+            // Row 4:    █    █
+            drawPixelAt(g, 3, 4);
+            drawPixelAt(g, 8, 4);
 
-        // Row 5:    █    █
-        drawPixelAt(g, 3, 5);
-        drawPixelAt(g, 8, 5);
+            // Row 5:   █      █
+            drawPixelAt(g, 2, 5);
+            drawPixelAt(g, 9, 5);
+        }
     }
 
     /**
@@ -255,6 +265,22 @@ public class Alien extends GameObject {
 
     public int getRow() { return row; }
 
+    public int getColumn() { return column; }
+
+    public int getType() { return type; }
+
+    public int getAnimationFrame() { return animationFrame; }
+
+    /**
+     * Set the march frame (driven by the formation so all aliens step together)
+     */
+    public void setAnimationFrame(int frame) { this.animationFrame = frame; }
+
+    /* Living index slot (managed by AlienFormation) */
+    int getLivingSlot() { return livingSlot; }
+
+    void setLivingSlot(int slot) { this.livingSlot = slot; }
+
     /**
      * Get X position for spawning bullet (center of alien)
      */
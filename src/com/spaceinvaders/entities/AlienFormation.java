@@ -1,7 +1,11 @@
 package com.spaceinvaders.entities;
 
 import com.spaceinvaders.utils.Constants;
+import com.spaceinvaders.utils.FixedPoint;
+import java.awt.AlphaComposite;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -9,18 +13,24 @@ import java.util.Random;
 /**
  * Manage the entire alien formation
  * Handles movement pattern: right -> down -> left -> down -> repeat
- * Also uses delta time for speed
+ * Also uses delta time for speed, or integer fixed-point steps in the reproducible mode
  */
 public class AlienFormation {
     
-    // All aliens in formation
+    // All aliens in formation (full lattice, dead ones included - only used for geometry)
     private List<Alien> aliens;
 
+    // Dense index of living aliens - all hot loops walk only this
+    // Order is not stable: dead aliens are swap-removed
+    private Alien[] living;
+    private int livingCount;
+
     // Movement direction (right = 1, left = -1)
     private int direction;
 
     // Current speed (this increase as aliens die)
     private double speed;
+    private int speedTier;
 
     // Random for alien shooting
     private Random random;
@@ -28,15 +38,57 @@ public class AlienFormation {
     // Current shoot chance (increases each wave)
     private double shootChance;
 
+    // March animation - all aliens switch frame together after moving a set distance
+    private int animationFrame;
+    private double marchDistance;
+    private boolean marchStepped;   // A step since the last consumeMarchStep() (drives the march sound)
+
+    // Lowest living alien of each column (index into aliens, -1 = column empty)
+    // Only these aliens can shoot, like in the arcade
+    private int[] columnShooters;
+
+    // Dense list of columns that still have a shooter, for O(1) random picks
+    private int[] shooterColumns;
+    private int[] shooterSlots; // Position of each column inside shooterColumns
+    private int shooterCount;
+
+    /* FIXED-POINT MODE (16.16) - integer-only movement, edges and drops */
+    private boolean fixedPoint;
+    private int originX;        // Top-left cell of the lattice (fixed-point pixels)
+    private int originY;
+    private int speedPerTick;   // Fixed-point pixels per simulation tick
+    private static final int DROP_FIXED = FixedPoint.fromDouble(Constants.ALIEN_DROP_DISTANCE);
+    private static final int STRIDE_X = Constants.ALIEN_WIDTH + Constants.ALIEN_SPACING_X;
+    private static final int STRIDE_Y = Constants.ALIEN_HEIGHT + Constants.ALIEN_SPACING_Y;
+
+    /* FORMATION LAYER - all living aliens baked into one image */
+    private static final int LAYER_WIDTH = (Constants.ALIEN_COLUMNS - 1) * STRIDE_X + Constants.ALIEN_WIDTH;
+    private static final int LAYER_HEIGHT = (Constants.ALIEN_ROWS - 1) * STRIDE_Y + Constants.ALIEN_HEIGHT;
+    private BufferedImage layer;
+    private boolean layerDirty = true; // Re-bake on kill, frame flip or new formation
+
     /**
      * Constructor - creates the alien formation 
      */
     public AlienFormation() {
+        this(false);
+    }
+
+    /**
+     * Constructor
+     * @param fixedPoint true = integer fixed-point movement, one tick per update call
+     */
+    public AlienFormation(boolean fixedPoint) {
+        this.fixedPoint = fixedPoint;
         aliens = new ArrayList<>();
+        living = new Alien[Constants.ALIEN_ROWS * Constants.ALIEN_COLUMNS];
         direction = 1;
-        speed = Constants.ALIEN_SPEED_PER_SEC;
+        setSpeedTier(0);
         random = new Random();
         shootChance = Constants.ALIEN_SHOOT_CHANCE_BASE;
+        columnShooters = new int[Constants.ALIEN_COLUMNS];
+        shooterColumns = new int[Constants.ALIEN_COLUMNS];
+        shooterSlots = new int[Constants.ALIEN_COLUMNS];
 
         createFormation();
     }
@@ -47,30 +99,104 @@ public class AlienFormation {
      */
     public void createFormation() {
         aliens.clear();
+        livingCount = 0;
+        animationFrame = 0;
+        marchDistance = 0;
+        marchStepped = false;
+        layerDirty = true;
+        originX = FixedPoint.fromInt(Constants.ALIEN_START_X);
+        originY = FixedPoint.fromInt(Constants.ALIEN_START_Y);
 
         for (int row = 0; row < Constants.ALIEN_ROWS; row++) {
             for (int col = 0; col < Constants.ALIEN_COLUMNS; col++) {
                 // Calculate position for this alien
-                int x = Constants.ALIEN_START_X + col * (Constants.ALIEN_WIDTH + Constants.ALIEN_SPACING_X);
-                int y = Constants.ALIEN_START_Y + row * (Constants.ALIEN_HEIGHT + Constants.ALIEN_SPACING_Y);
+                int x = Constants.ALIEN_START_X + col * STRIDE_X;
+                int y = Constants.ALIEN_START_Y + row * STRIDE_Y;
 
                 // Create alien and add to list
-                Alien alien = new Alien(x, y, row);
+                Alien alien = new Alien(x, y, row, col);
                 aliens.add(alien);
+
+                alien.setLivingSlot(livingCount);
+                living[livingCount++] = alien;
             }
         }
+
+        // Every column starts with its bottom row alien as shooter
+        int bottomRow = Constants.ALIEN_ROWS - 1;
+        for (int col = 0; col < Constants.ALIEN_COLUMNS; col++) {
+            columnShooters[col] = bottomRow * Constants.ALIEN_COLUMNS + col;
+            shooterColumns[col] = col;
+            shooterSlots[col] = col;
+        }
+        shooterCount = Constants.ALIEN_COLUMNS;
+    }
+
+    /**
+     * Destroy an alien and update the shooter index and speed
+     * Must be used instead of alien.destroy() for aliens of this formation
+     */
+    public void destroyAlien(Alien alien) {
+        if (!alien.isActive()) return;
+
+        alien.destroy();
+
+        // Swap-remove from the living index
+        int slot = alien.getLivingSlot();
+        Alien last = living[--livingCount];
+        living[slot] = last;
+        last.setLivingSlot(slot);
+        living[livingCount] = null;
+        alien.setLivingSlot(-1);
+        layerDirty = true;
+
+        int col = alien.getColumn();
+        int index = alien.getRow() * Constants.ALIEN_COLUMNS + col;
+
+        // Only the column's shooter dying changes the index
+        if (columnShooters[col] == index) {
+            columnShooters[col] = -1;
+
+            // Walk up the column to find the next living alien
+            for (int row = alien.getRow() - 1; row >= 0; row--) {
+                int above = row * Constants.ALIEN_COLUMNS + col;
+                if (aliens.get(above).isActive()) {
+                    columnShooters[col] = above;
+                    break;
+                }
+            }
+
+            // Column is empty - swap-remove it from the dense list
+            if (columnShooters[col] == -1) {
+                int columnSlot = shooterSlots[col];
+                int lastColumn = shooterColumns[shooterCount - 1];
+                shooterColumns[columnSlot] = lastColumn;
+                shooterSlots[lastColumn] = columnSlot;
+                shooterCount--;
+            }
+        }
+
+        increaseSpeed();
     }
 
     /**
      * Update all aliens - movement and direction changes
      */
     public void update(double deltaTime) {
+        // Fixed-point mode always advances one tick
+        updateAnimation(fixedPoint ? Constants.SIMULATION_TICK : deltaTime);
+
+        if (fixedPoint) {
+            updateFixed();
+            return;
+        }
+
         // Check if any alien hit the edge
         boolean shouldReverse = false;
         boolean shouldDrop = false;
         
-        for (Alien alien : aliens) {
-            if (!alien.isActive()) continue;
+        for (int i = 0; i < livingCount; i++) {
+            Alien alien = living[i];
 
             // Check right edge
             if (direction == 1 && alien.getX() + alien.getWidth() >= Constants.WINDOW_WIDTH - 10) {
@@ -93,8 +219,8 @@ public class AlienFormation {
         }
 
         // Update each alien
-        for (Alien alien : aliens) {
-            if (!alien.isActive()) continue;
+        for (int i = 0; i < livingCount; i++) {
+            Alien alien = living[i];
 
             // Set horizontal velocity
             alien.setVelocityX(speed * direction);
@@ -108,54 +234,191 @@ public class AlienFormation {
     }
 
     /**
-     * Render all aliens 
+     * Flip the march frame every ALIEN_MARCH_STEP pixels moved
+     * Faster formation = faster march, like the arcade
      */
-    public void render(Graphics2D g2d) {
-        for (Alien alien : aliens) {
-            if (alien.isActive()) {
-                alien.render(g2d);
+    private void updateAnimation(double deltaTime) {
+        marchDistance += speed * deltaTime;
+        if (marchDistance < Constants.ALIEN_MARCH_STEP) {
+            return;
+        }
+
+        marchDistance -= Constants.ALIEN_MARCH_STEP;
+        marchStepped = true;
+        animationFrame = 1 - animationFrame;
+        for (int i = 0; i < livingCount; i++) {
+            living[i].setAnimationFrame(animationFrame);
+        }
+        layerDirty = true;
+    }
+
+    /**
+     * Fixed-point update - advances exactly one simulation tick
+     * Integer-only, so the result is the same on every machine
+     */
+    private void updateFixed() {
+        int left = FixedPoint.toInt(originX);
+
+        // Check if any alien hit the edge
+        boolean shouldDrop = false;
+        for (int i = 0; i < livingCount; i++) {
+            int alienX = left + living[i].getColumn() * STRIDE_X;
+
+            if (direction == 1 && alienX + Constants.ALIEN_WIDTH >= Constants.WINDOW_WIDTH - 10
+                    || direction == -1 && alienX <= 10) {
+                shouldDrop = true;
+                break;
             }
         }
+
+        // Reverse and drop if needed
+        if (shouldDrop) {
+            direction *= -1;
+            originY += DROP_FIXED;
+        }
+
+        originX += speedPerTick * direction;
+
+        // Place aliens on whole pixels from the lattice origin
+        left = FixedPoint.toInt(originX);
+        int top = FixedPoint.toInt(originY);
+        for (int i = 0; i < livingCount; i++) {
+            Alien alien = living[i];
+            alien.setX(left + alien.getColumn() * STRIDE_X);
+            alien.setY(top + alien.getRow() * STRIDE_Y);
+        }
+    }
+
+    /**
+     * Set speed in pixels per second (also updates the fixed-point step)
+     */
+    private void setSpeed(double pixelsPerSecond) {
+        speed = pixelsPerSecond;
+        speedPerTick = FixedPoint.perTick(pixelsPerSecond, Constants.SIMULATION_TICK_RATE);
+    }
+
+    /**
+     * Render all aliens
+     * All aliens move together, so they are drawn as one cached layer image
+     * placed at the lattice origin - a single blit for most frames
+     */
+    public void render(Graphics2D g2d) {
+        if (livingCount == 0) return;
+
+        if (layerDirty) {
+            bakeLayer();
+        }
+
+        g2d.drawImage(layer, getOriginX(), getOriginY(), null);
+    }
+
+    /**
+     * Screen X of the lattice's top-left cell (any living alien gives it)
+     * Only valid while aliens are alive
+     */
+    public int getOriginX() {
+        Alien reference = living[0];
+        return (int) reference.getX() - reference.getColumn() * STRIDE_X;
+    }
+
+    /**
+     * Screen Y of the lattice's top-left cell (only valid while aliens are alive)
+     */
+    public int getOriginY() {
+        Alien reference = living[0];
+        return (int) reference.getY() - reference.getRow() * STRIDE_Y;
+    }
+
+    /**
+     * Horizontal and vertical distance between neighbouring aliens
+     */
+    public static int getStrideX() { return STRIDE_X; }
+
+    public static int getStrideY() { return STRIDE_Y; }
+
+    /**
+     * Redraw the living aliens into the formation layer (lattice coordinates)
+     */
+    private void bakeLayer() {
+        if (layer == null) {
+            layer = SpriteAtlas.getInstance().createLayer(LAYER_WIDTH, LAYER_HEIGHT);
+        }
+
+        Graphics2D g = layer.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, LAYER_WIDTH, LAYER_HEIGHT);
+        g.setComposite(AlphaComposite.SrcOver);
+
+        SpriteAtlas atlas = SpriteAtlas.getInstance();
+        for (int i = 0; i < livingCount; i++) {
+            Alien alien = living[i];
+            atlas.draw(g, SpriteAtlas.alienSprite(alien.getType(), alien.getAnimationFrame()),
+                alien.getColumn() * STRIDE_X, alien.getRow() * STRIDE_Y);
+        }
+        g.dispose();
+
+        layerDirty = false;
     }
 
     /**
-     * Try to shoot - returns a bullet from random alien, or null
-     * No ArrayList creation every frame for better optimitzation
+     * Try to shoot - returns a bullet from a column shooter, or null
+     * Only the lowest living alien of a column can shoot (no friendly fire through the formation)
+     * Some shots are aimed at the column above the target, the rest pick a random column
+     * @param targetX center X of the player
      */
-    public Bullet tryShoot(double deltaTime) {
+    public Bullet tryShoot(double deltaTime, double targetX) {
         // Adjust shoot chance based on delta time
         // This ensures consistent shooting rate regardless of FPS
         double adjustedChance = shootChance * deltaTime * 60; // Normalize to 60 FPS
 
-        if (random.nextDouble() >= adjustedChance) {
+        if (random.nextDouble() >= adjustedChance || shooterCount == 0) {
             return null;
         }
 
-        // Count active aliens and pick a random index  
-        int alienCount = getAliveCount();
-        if (alienCount == 0) {
-            return null;
+        int shooterIndex = -1;
+
+        // Aimed shot - use the column above the player if it still has aliens
+        if (random.nextDouble() < Constants.ALIEN_AIMED_SHOT_CHANCE) {
+            int col = getColumnAt(targetX);
+            if (col >= 0) {
+                shooterIndex = columnShooters[col];
+            }
         }
 
-        // Pick random alien number
-        int targetIndex = random.nextInt(alienCount);
-        int currentIndex = 0;
+        // Random shot - any column that still has a shooter
+        if (shooterIndex == -1) {
+            int col = shooterColumns[random.nextInt(shooterCount)];
+            shooterIndex = columnShooters[col];
+        }
 
-        // Find the alien at that index
-        for (Alien alien : aliens) {
-            if (alien.isActive()) {
-                if (currentIndex == targetIndex) {
-                    return new Bullet(
-                        alien.getBulletSpawnX(),
-                        alien.getBulletSpawnY(),
-                        false
-                    );
-                }
-                currentIndex++;
-            }
+        Alien shooter = aliens.get(shooterIndex);
+        return new Bullet(
+            shooter.getBulletSpawnX(),
+            shooter.getBulletSpawnY(),
+            false
+        );
+    }
+
+    /**
+     * Get the formation column closest to a screen X position
+     * @return column index, or -1 if there are no shooters left
+     */
+    private int getColumnAt(double screenX) {
+        if (shooterCount == 0) {
+            return -1;
         }
 
-        return null;
+        // All aliens move together, so any shooter gives the formation origin
+        Alien reference = aliens.get(columnShooters[shooterColumns[0]]);
+        double left = reference.getX() - reference.getColumn() * STRIDE_X;
+
+        int col = (int) Math.round((screenX - left - Constants.ALIEN_WIDTH / 2.0) / STRIDE_X);
+        if (col < 0) {
+            col = 0;
+        } else if (col >= Constants.ALIEN_COLUMNS) {
+            col = Constants.ALIEN_COLUMNS - 1;
+        }
+        return col;
     }
 
     /**
@@ -175,29 +438,21 @@ public class AlienFormation {
      * Check if aliens reached the bottom (game over condition)
      */
     public boolean hasReachedBottom() {
-        for (Alien alien : aliens) {
-            if  (alien.isActive()) {
-                // Check if alien Y + height is past the player area
-                if(alien.getY() + alien.getHeight() >= Constants.WINDOW_HEIGHT - Constants.PLAYER_Y_OFFSET - 20) {
-                    return true;
-                }
+        for (int i = 0; i < livingCount; i++) {
+            Alien alien = living[i];
+
+            // Check if alien Y + height is past the player area
+            if (alien.getY() + alien.getHeight() >= Constants.WINDOW_HEIGHT - Constants.PLAYER_Y_OFFSET - 20) {
+                return true;
             }
         }
         return false;
     }
 
     /**
-     * Counts how many aliens are still alive
+     * How many aliens are still alive (size of the living index)
      */
-    public int getAliveCount() {
-        int count = 0;
-        for (Alien alien : aliens) {
-            if (alien.isActive()) {
-                count++;
-            }
-        }
-        return count;
-    }
+    public int getAliveCount() { return livingCount; }
 
     /**
      * Increase speed - called when an alien dies
@@ -209,24 +464,46 @@ public class AlienFormation {
         // Calculate speed based on percentage of aliens remaining
         // More aliens dead = faster speed, but with a cap
         if (aliveCount > 40) {
-            speed = Constants.ALIEN_SPEED_PER_SEC;
+            setSpeedTier(0);
         } else if (aliveCount > 25) {
-            speed = Constants.ALIEN_SPEED_PER_SEC * 1.3;
+            setSpeedTier(1);
         } else if (aliveCount > 10) {
-            speed = Constants.ALIEN_SPEED_PER_SEC * 1.7;
+            setSpeedTier(2);
         } else if (aliveCount > 5) {
-            speed = Constants.ALIEN_SPEED_PER_SEC * 2.4;
+            setSpeedTier(3);
         } else {
-            speed = Constants.ALIEN_SPEED_PER_SEC * 3.0;
+            setSpeedTier(4);
         }
     }   
 
+    /**
+     * Move at one of the ALIEN_SPEED_TIERS
+     */
+    private void setSpeedTier(int tier) {
+        speedTier = tier;
+        setSpeed(Constants.ALIEN_SPEED_PER_SEC * Constants.ALIEN_SPEED_TIERS[tier]);
+    }
+
+    /**
+     * Current speed tier (index into ALIEN_SPEED_TIERS)
+     */
+    public int getSpeedTier() { return speedTier; }
+
+    /**
+     * Did the formation take a march step since the last call?
+     */
+    public boolean consumeMarchStep() {
+        boolean stepped = marchStepped;
+        marchStepped = false;
+        return stepped;
+    }
+
     /**
      * Reset formation for new wave or game
      */
     public void reset() {
         direction = 1;
-        speed = Constants.ALIEN_SPEED_PER_SEC;
+        setSpeedTier(0);
         createFormation();
     }
 
@@ -235,13 +512,54 @@ public class AlienFormation {
      */
     public void fullReset() {
         direction = 1;
-        speed = Constants.ALIEN_SPEED_PER_SEC;
+        setSpeedTier(0);
         shootChance = Constants.ALIEN_SHOOT_CHANCE_BASE;  // Reset to starting difficulty
         createFormation();
     }
 
     /**
-     * Get the list of aliens (for collision detection)
+     * Seed the shooting randomness (for reproducible simulations)
+     */
+    public void setSeed(long seed) { random = new Random(seed); }
+
+    /**
+     * Is the formation using integer fixed-point movement?
+     */
+    public boolean isFixedPoint() { return fixedPoint; }
+
+    /**
+     * Get the bounding box of all living aliens
+     * @param out rectangle to fill (reused by the caller)
+     * @return false if no aliens are alive
+     */
+    public boolean getLivingBounds(Rectangle out) {
+        if (livingCount == 0) return false;
+
+        int left = Integer.MAX_VALUE;
+        int top = Integer.MAX_VALUE;
+        int right = Integer.MIN_VALUE;
+        int bottom = Integer.MIN_VALUE;
+        for (int i = 0; i < livingCount; i++) {
+            Alien alien = living[i];
+            int ax = (int) alien.getX();
+            int ay = (int) alien.getY();
+            left = Math.min(left, ax);
+            top = Math.min(top, ay);
+            right = Math.max(right, ax + alien.getWidth());
+            bottom = Math.max(bottom, ay + alien.getHeight());
+        }
+        out.setBounds(left, top, right - left, bottom - top);
+        return true;
+    }
+
+    /**
+     * Get a living alien by index (0 to getAliveCount() - 1)
+     * Use this for collision loops instead of walking the full lattice
+     */
+    public Alien getLivingAlien(int index) { return living[index]; }
+
+    /**
+     * Get the full lattice of aliens, dead ones included (for geometry)
      */
     public List<Alien> getAliens() { return aliens; }
 }
\ No newline at end of file
@@ -29,9 +29,9 @@ public class Bullet extends GameObject {
 
         // Set velocity based on who shot it 
         if (isPlayerBullet) {
-            this.velocityY = Constants.PLAYER_BULLET_SPEED_PER_SEC; // Player bullet speed (UP)
+            this.velocityY = -Constants.PLAYER_BULLET_SPEED_PER_SEC; // Player bullet speed (UP)
         } else {
-            this.velocityY = Constants.PLAYER_BULLET_SPEED_PER_SEC; // Player bullet speed (DOWN)
+            this.velocityY = Constants.ALIEN_BULLET_SPEED_PER_SEC; // Alien bullet speed (DOWN)
         }
     }
 
@@ -62,4 +62,9 @@ public class Bullet extends GameObject {
      * Check if this is a player bullet
      */
     public boolean isPlayerBullet() { return isPlayerBullet; }
+
+    /**
+     * Get the bullet color (green for player, red for aliens)
+     */
+    public Color getColor() { return isPlayerBullet ? COLOR_PLAYER_BULLET : COLOR_ALIEN_BULLET; }
 }
\ No newline at end of file
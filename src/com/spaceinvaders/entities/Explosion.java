@@ -2,7 +2,6 @@ package com.spaceinvaders.entities;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
 
 /**
  * Explosion animation - plays when aliens or player are destroyed
@@ -19,13 +18,12 @@ public class Explosion extends GameObject{
     // Pixel size
     private static final int PIXEL = 3;
 
+    // Sprite size (square)
+    static final int SIZE = 40;
+
     // Explosion color
     private Color color;
 
-    // Cached sprites for animation frames
-    private static BufferedImage[] sprites;
-    private static boolean spritesCreated = false;
-
     /**
      * 
      * @param x center X position
@@ -33,42 +31,22 @@ public class Explosion extends GameObject{
      * @param color explosion color (green for player, alien's color for aliens)
      */
     public Explosion(double x, double y, Color color) {
-        super(x - 20, y - 20, 40, 40); // Center the explosion
+        super(x - SIZE / 2, y - SIZE / 2, SIZE, SIZE); // Center the explosion
 
         this.color = color;
         this.currentFrame = 0;
         this.frameTimer = 0;
-
-        // Create sprites only once
-        if (!spritesCreated) {
-            createSprites();
-            spritesCreated = true;
-        }
-    }
-
-    /**
-     * Create all explosion animation frames
-     */
-    private static void createSprites() {
-        sprites = new BufferedImage[TOTAL_FRAMES];
-
-        // We'll create the sprites with white, then tint when drawing
-        for (int i = 0; i < TOTAL_FRAMES; i++) {
-            sprites[i] = createExplosionFrame(i);
-        }
     }
 
     /**
-     * Create a single explosion frame
+     * Paint one explosion frame at (0, 0) - used to build the sprite atlas
+     * Frames are white, the color is drawn over them
      */
-    private static BufferedImage createExplosionFrame(int frame) {
-        BufferedImage sprite = new BufferedImage(40, 40, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g = sprite.createGraphics();
-
+    static void paintFrame(Graphics2D g, int frame) {
         g.setColor(Color.WHITE);  // Will be tinted when drawing
 
-        int centerX = 20;
-        int centerY = 20;
+        int centerX = SIZE / 2;
+        int centerY = SIZE / 2;
 
         switch (frame) {
             // Frame 0: Small explosion - center burst
@@ -121,8 +99,6 @@ public class Explosion extends GameObject{
                 drawExplosionPixel(g, centerX - 4, centerY + 6);
             }
         }
-        g.dispose();
-        return sprite;
     }
 
     /**
@@ -152,7 +128,7 @@ public class Explosion extends GameObject{
     public void render(Graphics2D g2d) {
         if (currentFrame < TOTAL_FRAMES) {
             // Draw the sprite with color tint
-            g2d.drawImage(sprites[currentFrame], (int) x, (int) y, null);
+            SpriteAtlas.getInstance().draw(g2d, SpriteAtlas.EXPLOSION + currentFrame, (int) x, (int) y);
 
             // Draw colored overlay
             g2d.setColor(color);
@@ -213,6 +189,21 @@ public class Explosion extends GameObject{
         }
     }
     
+    /**
+     * Get the current animation frame (TOTAL_FRAMES or more = finished)
+     */
+    public int getCurrentFrame() { return currentFrame; }
+
+    /**
+     * Get the number of animation frames
+     */
+    public static int getFrameCount() { return TOTAL_FRAMES; }
+
+    /**
+     * Get the explosion color
+     */
+    public Color getColor() { return color; }
+
     /**
      * Helper to draw pixel at position
      */
@@ -58,7 +58,14 @@ public abstract class GameObject {
         if (!this.active || !other.active) {
             return false;
         }
-        return this.getBounds().intersects(other.getBounds()); // AABB collision detection
+
+        // Integer AABB collision detection (same result as getBounds().intersects, no allocation)
+        int ax = (int) x;
+        int ay = (int) y;
+        int bx = (int) other.x;
+        int by = (int) other.y;
+        return ax < bx + other.width && bx < ax + width
+            && ay < by + other.height && by < ay + height;
     }
 
     // Getters & Setters
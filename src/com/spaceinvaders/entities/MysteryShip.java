@@ -3,7 +3,6 @@ package com.spaceinvaders.entities;
 import com.spaceinvaders.utils.Constants;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
 import java.util.Random;
 
 /**
@@ -34,10 +33,6 @@ public class MysteryShip extends GameObject {
     // Random for points values
     private static Random random = new Random();
 
-    // Cached sprite
-    private static BufferedImage sprite;
-    private static boolean spriteCreated = false;
-
     /**
      * Constructor
      * @param fromLeft true  = spawn on left, move right | false = spawn on right, move left
@@ -61,21 +56,15 @@ public class MysteryShip extends GameObject {
 
         // Random point value 
         this.points = POINT_VALUES[random.nextInt(POINT_VALUES.length)];
-
-        // Create sprite only once
-        if (!spriteCreated) {
-            createSprite();
-            spriteCreated = true;
-        }
     }
 
+    // Dome highlight color
+    private static final Color COLOR_HIGHLIGHT = new Color(255, 200, 200);
+
     /**
-     * Create cached sprite image
+     * Paint the sprite at (0, 0) - used to build the sprite atlas
      */
-    private static void createSprite() {
-        sprite = new BufferedImage(60, 25, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g = sprite.createGraphics();
-
+    static void paintSprite(Graphics2D g) {
         // Row 0: Top dome
         g.setColor(COLOR_BODY);
         for (int i = 6; i <= 13; i++) {
@@ -107,11 +96,9 @@ public class MysteryShip extends GameObject {
         drawPixelAt(g, 14, 4);
 
         // Dome highlight
-        g.setColor(new Color(255, 200, 200));
+        g.setColor(COLOR_HIGHLIGHT);
         drawPixelAt(g, 8, 0);
         drawPixelAt(g, 9, 0);
-
-        g.dispose();
     }
 
     @Override
@@ -130,8 +117,8 @@ public class MysteryShip extends GameObject {
 
     @Override
     public void render(Graphics2D g2d) {
-        // Draw cached sprite
-        g2d.drawImage(sprite, (int) x, (int) y, null);
+        // Blit from the sprite atlas
+        SpriteAtlas.getInstance().draw(g2d, SpriteAtlas.MYSTERY_SHIP, (int) x, (int) y);
     }
 
     /**
@@ -146,6 +133,11 @@ public class MysteryShip extends GameObject {
      */
     public int getPoints() { return points; }
     
+    /**
+     * Seed the spawn and points randomness (for reproducible simulations)
+     */
+    public static void setSeed(long seed) { random = new Random(seed); }
+
     /**
      * Static method to check if UFO should spawn this frame
      */
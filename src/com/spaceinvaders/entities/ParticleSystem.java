@@ -0,0 +1,347 @@
+package com.spaceinvaders.entities;
+
+import com.spaceinvaders.utils.Constants;
+import com.spaceinvaders.utils.KinematicsKernel;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.util.Random;
+
+/**
+ * Pooled particle engine for sparks, debris and muzzle flashes
+ * All particles live in preallocated primitive arrays (no objects per particle)
+ * The budget follows the graphics quality - when full, new particles are dropped
+ * instead of allocating, so heavy action degrades gracefully
+ */
+public class ParticleSystem {
+
+    // Fade steps used for batching (each color has this many alpha levels)
+    private static final int FADE_LEVELS = 4;
+    private static final int[] FADE_ALPHAS = {255, 190, 125, 60};
+
+    // Maximum number of different base colors
+    private static final int MAX_COLORS = 16;
+
+    // Particle colors used by the emitters
+    private static final Color COLOR_WHITE = new Color(255, 255, 255);
+    private static final Color COLOR_PLAYER = new Color(0, 255, 0);
+    private static final Color COLOR_FLASH = new Color(255, 255, 150);
+
+    // Particle buffers (struct of arrays)
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] gravity;
+    private final float[] life;
+    private final float[] maxLife;
+    private final byte[] size;
+    private final byte[] colorIndex;
+    private int count;
+
+    // Current budget (never bigger than the buffers)
+    private final int capacity;
+    private int budget;
+
+    // Palette of base colors and their precomputed faded versions
+    private final int[] paletteRgb = new int[MAX_COLORS];
+    private final Color[] paletteColors = new Color[MAX_COLORS * FADE_LEVELS];
+    private int paletteSize;
+
+    // Scratch buffers for batched drawing (counting sort by color)
+    private final int[] bucketStart = new int[MAX_COLORS * FADE_LEVELS + 1];
+    private final int[] drawOrder;
+
+    private Random random = new Random();
+
+    // Bulk position/velocity integration (SIMD when available)
+    private final KinematicsKernel kinematics = KinematicsKernel.getDefault();
+
+    /**
+     * Constructor - buffers are sized for the highest quality budget
+     * @param budget starting particle budget
+     */
+    public ParticleSystem(int budget) {
+        capacity = Constants.PARTICLE_BUDGET_HIGH;
+
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        gravity = new float[capacity];
+        life = new float[capacity];
+        maxLife = new float[capacity];
+        size = new byte[capacity];
+        colorIndex = new byte[capacity];
+        drawOrder = new int[capacity];
+
+        setBudget(budget);
+    }
+
+    /**
+     * Change the particle budget (when graphics quality changes)
+     * Extra particles are dropped right away
+     */
+    public void setBudget(int budget) {
+        this.budget = Math.max(0, Math.min(budget, capacity));
+        if (count > this.budget) {
+            count = this.budget;
+        }
+    }
+
+    public int getBudget() { return budget; }
+
+    /**
+     * Seed the spread randomness (for reproducible runs)
+     */
+    public void setSeed(long seed) { random = new Random(seed); }
+
+    public int getCount() { return count; }
+
+    /* Per-particle bounds (index 0 to getCount() - 1) */
+    public int getParticleX(int i) { return (int) x[i]; }
+
+    public int getParticleY(int i) { return (int) y[i]; }
+
+    public int getParticleSize(int i) { return size[i]; }
+
+    /**
+     * Remove all particles
+     */
+    public void clear() { count = 0; }
+
+    /**
+     * Simulate all particles
+     * Dead particles are swap-removed first so the live ones stay packed,
+     * then the kinematics kernel moves all of them in bulk
+     */
+    public void update(double deltaTime) {
+        float dt = (float) deltaTime;
+
+        for (int i = 0; i < count; i++) {
+            float remaining = life[i] - dt;
+
+            // Dead or off screen - move last particle into this slot
+            if (remaining <= 0 || y[i] > Constants.WINDOW_HEIGHT || x[i] < -4 || x[i] > Constants.WINDOW_WIDTH) {
+                removeAt(i);
+                i--;
+                continue;
+            }
+
+            life[i] = remaining;
+        }
+
+        // Gravity, then movement
+        kinematics.integrate(vy, gravity, count, dt);
+        kinematics.integrate2D(x, y, vx, vy, count, dt);
+    }
+
+    /**
+     * Draw all particles, batched by color so each color is set once
+     */
+    public void render(Graphics2D g2d) {
+        if (count == 0) return;
+
+        sortForDrawing();
+
+        // bucketStart now holds each bucket's end - draw bucket by bucket
+        int buckets = paletteSize * FADE_LEVELS;
+        int start = 0;
+        for (int b = 0; b < buckets; b++) {
+            int end = bucketStart[b];
+            if (end > start) {
+                g2d.setColor(paletteColors[b]);
+                for (int k = start; k < end; k++) {
+                    int i = drawOrder[k];
+                    g2d.fillRect((int) x[i], (int) y[i], size[i], size[i]);
+                }
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * Sort particles by bucket (counting sort) into the draw order
+     * Renderers that draw particles themselves must follow this order
+     * (overlapping translucent particles blend in order)
+     * @return number of particles to draw (see getDrawOrder)
+     */
+    public int sortForDrawing() {
+        int buckets = paletteSize * FADE_LEVELS;
+
+        // Count particles per bucket
+        for (int b = 0; b <= buckets; b++) {
+            bucketStart[b] = 0;
+        }
+        for (int i = 0; i < count; i++) {
+            bucketStart[bucketOf(i) + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+
+        // Place particle indexes in bucket order
+        for (int i = 0; i < count; i++) {
+            drawOrder[bucketStart[bucketOf(i)]++] = i;
+        }
+        return count;
+    }
+
+    /**
+     * Particle index at a position of the draw order (after sortForDrawing)
+     */
+    public int getDrawOrder(int position) { return drawOrder[position]; }
+
+    /**
+     * Color of a particle as ARGB, including its fade
+     */
+    public int getParticleArgb(int i) { return paletteColors[bucketOf(i)].getRGB(); }
+
+    /* EMITTERS */
+
+    /**
+     * Sparks flying out of a destroyed alien (or mystery ship)
+     */
+    public void emitAlienDeath(double centerX, double centerY, Color color) {
+        int colorSlot = paletteIndexOf(color);
+        int whiteSlot = paletteIndexOf(COLOR_WHITE);
+        int amount = scaled(24);
+
+        for (int i = 0; i < amount; i++) {
+            double angle = random.nextDouble() * Math.PI * 2;
+            double speed = 60 + random.nextDouble() * 160;
+            spawn(centerX, centerY,
+                Math.cos(angle) * speed, Math.sin(angle) * speed, 0,
+                0.3 + random.nextDouble() * 0.4,
+                2 + random.nextInt(2),
+                i % 4 == 0 ? whiteSlot : colorSlot);
+        }
+    }
+
+    /**
+     * Small chips knocked off a shield
+     * @param fromBelow true if the bullet came from below (player)
+     */
+    public void emitShieldChips(double hitX, double hitY, boolean fromBelow) {
+        int colorSlot = paletteIndexOf(Shield.SHIELD_COLOR);
+        int amount = scaled(8);
+        double side = fromBelow ? 1 : -1; // Chips fly back towards the shooter
+
+        for (int i = 0; i < amount; i++) {
+            spawn(hitX, hitY,
+                (random.nextDouble() - 0.5) * 140, side * (40 + random.nextDouble() * 120), 300,
+                0.25 + random.nextDouble() * 0.35,
+                2,
+                colorSlot);
+        }
+    }
+
+    /**
+     * Big burst of debris when the player is hit
+     */
+    public void emitPlayerDeath(double centerX, double centerY) {
+        int colorSlot = paletteIndexOf(COLOR_PLAYER);
+        int whiteSlot = paletteIndexOf(COLOR_WHITE);
+        int amount = scaled(60);
+
+        for (int i = 0; i < amount; i++) {
+            double angle = Math.PI + random.nextDouble() * Math.PI; // Upper half
+            double speed = 80 + random.nextDouble() * 220;
+            spawn(centerX, centerY,
+                Math.cos(angle) * speed, Math.sin(angle) * speed, 250,
+                0.6 + random.nextDouble() * 0.6,
+                2 + random.nextInt(3),
+                i % 3 == 0 ? whiteSlot : colorSlot);
+        }
+    }
+
+    /**
+     * Short flash at the cannon tip when the player shoots
+     */
+    public void emitMuzzleFlash(double tipX, double tipY) {
+        int colorSlot = paletteIndexOf(COLOR_FLASH);
+        int amount = scaled(6);
+
+        for (int i = 0; i < amount; i++) {
+            spawn(tipX, tipY,
+                (random.nextDouble() - 0.5) * 120, -60 - random.nextDouble() * 120, 0,
+                0.08 + random.nextDouble() * 0.07,
+                2,
+                colorSlot);
+        }
+    }
+
+    /* HELPERS */
+
+    /**
+     * Add one particle - silently dropped when the budget is full
+     */
+    private void spawn(double px, double py, double pvx, double pvy, double g, double lifetime, int pixelSize, int colorSlot) {
+        if (count >= budget) return;
+
+        int i = count++;
+        x[i] = (float) px;
+        y[i] = (float) py;
+        vx[i] = (float) pvx;
+        vy[i] = (float) pvy;
+        gravity[i] = (float) g;
+        life[i] = (float) lifetime;
+        maxLife[i] = (float) lifetime;
+        size[i] = (byte) pixelSize;
+        colorIndex[i] = (byte) colorSlot;
+    }
+
+    /**
+     * Remove particle i by moving the last particle into its slot
+     */
+    private void removeAt(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        gravity[i] = gravity[last];
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        size[i] = size[last];
+        colorIndex[i] = colorIndex[last];
+    }
+
+    /**
+     * Scale an emitter's particle count by the current budget
+     */
+    private int scaled(int amount) {
+        return Math.max(1, amount * budget / capacity);
+    }
+
+    /**
+     * Batch bucket for a particle (color and fade level)
+     */
+    private int bucketOf(int i) {
+        int fade = (int) ((1 - life[i] / maxLife[i]) * FADE_LEVELS);
+        if (fade >= FADE_LEVELS) {
+            fade = FADE_LEVELS - 1;
+        }
+        return colorIndex[i] * FADE_LEVELS + fade;
+    }
+
+    /**
+     * Find (or register) a base color in the palette
+     * Faded versions are created once, so drawing never allocates colors
+     */
+    private int paletteIndexOf(Color color) {
+        int rgb = color.getRGB();
+        for (int i = 0; i < paletteSize; i++) {
+            if (paletteRgb[i] == rgb) return i;
+        }
+
+        // Palette full - reuse the first color
+        if (paletteSize == MAX_COLORS) return 0;
+
+        int slot = paletteSize++;
+        paletteRgb[slot] = rgb;
+        for (int f = 0; f < FADE_LEVELS; f++) {
+            paletteColors[slot * FADE_LEVELS + f] = new Color(color.getRed(), color.getGreen(), color.getBlue(), FADE_ALPHAS[f]);
+        }
+        return slot;
+    }
+}
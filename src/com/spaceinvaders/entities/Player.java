@@ -3,7 +3,6 @@ package com.spaceinvaders.entities;
 import com.spaceinvaders.utils.Constants;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
 
 /**
  * The player spaceship - Classic Space Invaders style
@@ -14,8 +13,8 @@ public class Player extends GameObject {
     private boolean movingLeft;
     private boolean movingRight;
 
-    // Shooting cooldown
-    private long lastShotTime;
+    // Shooting cooldown (seconds left, counted in simulation time)
+    private double shotCooldown;
 
     // Pixel size for drawing
     private static final int PIXEL = 3;
@@ -23,10 +22,6 @@ public class Player extends GameObject {
     // Player color
     private static final Color COLOR_PLAYER = new Color(0, 255, 0);
 
-    // Cached sprite
-    private static BufferedImage sprite;
-    private static boolean spriteCreated = false;
-
     /**
      * Constructor - this creates player at bottom center of screen
      */
@@ -41,26 +36,14 @@ public class Player extends GameObject {
 
         this.movingLeft = false;
         this.movingRight = false;
-        this.lastShotTime = 0;
-
-        // Create sprite only once
-        if (!spriteCreated) {
-            createSprite();
-            spriteCreated = true;
-        }
+        this.shotCooldown = 0;
     }
 
     /**
-     * Create cached sprite image - Classic Space Invaders cannon
+     * Paint the sprite at (0, 0) - Classic Space Invaders cannon
+     * Used to build the sprite atlas
      */
-    private static void createSprite() {
-        sprite = new BufferedImage(
-            Constants.PLAYER_WIDTH, 
-            Constants.PLAYER_HEIGHT, 
-            BufferedImage.TYPE_INT_ARGB
-        );
-
-        Graphics2D g = sprite.createGraphics();
+    static void paintSprite(Graphics2D g) {
         g.setColor(COLOR_PLAYER);
 
         int centerX = Constants.PLAYER_WIDTH / 2 / PIXEL;  // Center in grid units
@@ -94,8 +77,6 @@ public class Player extends GameObject {
                 drawPixelAt(g, col, row);
             }
         }
-        
-        g.dispose();
     }
 
     /**
@@ -107,6 +88,11 @@ public class Player extends GameObject {
 
     @Override
     public void update(double deltaTime) {
+        // Count down shooting cooldown
+        if (shotCooldown > 0) {
+            shotCooldown -= deltaTime;
+        }
+
         // Calculate movement based on delta time
         double movement = Constants.PLAYER_BULLET_SPEED_PER_SEC * deltaTime;
 
@@ -131,22 +117,20 @@ public class Player extends GameObject {
 
     @Override
     public void render(Graphics2D g2d) {
-        // Draw cached sprite
-        g2d.drawImage(sprite, (int) x, (int) y, null);
+        // Blit from the sprite atlas
+        SpriteAtlas.getInstance().draw(g2d, SpriteAtlas.PLAYER, (int) x, (int) y);
     }
     
     /**
      * Check if player can shoot (cooldown passed)
      */
-    public boolean canShoot() {
-        long currentTime = System.currentTimeMillis();
-        return currentTime - lastShotTime >= Constants.PLAYER_SHOOT_COOLDOWN;
-    }
+    public boolean canShoot() { return shotCooldown <= 0; }
 
     /**
      * Record that player just shot
+     * Uses simulation time (not the wall clock) so replays stay reproducible
      */
-    public void shoot() { lastShotTime = System.currentTimeMillis(); } // Set to current time
+    public void shoot() { shotCooldown = Constants.PLAYER_SHOOT_COOLDOWN / 1000.0; }
 
     /**
      * Get X position where bullet should spawn
@@ -175,6 +159,7 @@ public class Player extends GameObject {
     public void reset() {
         x = Constants.WINDOW_WIDTH / 2 - Constants.PLAYER_WIDTH / 2;
         y = Constants.WINDOW_HEIGHT - Constants.PLAYER_Y_OFFSET - Constants.PLAYER_HEIGHT;
+        shotCooldown = 0;
         active = true;
     }
 }
\ No newline at end of file
@@ -3,12 +3,14 @@ package com.spaceinvaders.entities;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
 
 import com.spaceinvaders.utils.Constants;
 
 /**
  * Destructible shield/bunker
  * Made up of small blocks that can be destroyed individually
+ * Backed by its own image: destroyed blocks are cleared in place, so drawing is one blit
  */
 public class Shield {
     
@@ -27,7 +29,16 @@ public class Shield {
     private static final int HEIGHT_BLOCKS = 16;
 
     // Shield color
-    private static final Color SHIELD_COLOR = new Color(0, 255, 0);
+    static final Color SHIELD_COLOR = new Color(0, 255, 0);
+
+    // Transparent pixels used to clear one destroyed block
+    private static final int[] CLEAR_BLOCK = new int[BLOCK_SIZE * BLOCK_SIZE];
+
+    // Cached image of the remaining blocks
+    private BufferedImage image;
+
+    // Bumped every time the image changes (lets renderers skip unchanged shields)
+    private int version;
 
     // Shield shape template (1 = block exists, 0 = empty)
     private static final int[][] SHIELD_TEMPLATE = {
@@ -60,28 +71,36 @@ public class Shield {
 
         // Initialize blocks from template
         blocks = new boolean[HEIGHT_BLOCKS][WIDTH_BLOCKS];
-        for (int row = 0; row < HEIGHT_BLOCKS; row++) {
-            for (int col = 0; col < WIDTH_BLOCKS; col++) {
-                blocks[row][col] = (SHIELD_TEMPLATE[row][col] == 1);
-            }
-        }
+        image = new BufferedImage(WIDTH_BLOCKS * BLOCK_SIZE, HEIGHT_BLOCKS * BLOCK_SIZE, BufferedImage.TYPE_INT_ARGB);
+        reset();
     }
 
     /**
-     * Render the shield
+     * Render the shield (single blit of the cached image)
      */
     public void render(Graphics2D g2d) {
-        g2d.setColor(SHIELD_COLOR);
+        g2d.drawImage(image, x, y, null);
+    }
 
-        for (int row = 0; row < HEIGHT_BLOCKS; row++) {
-            for (int col = 0; col < WIDTH_BLOCKS; col++) {
-                if (blocks[row][col]) {
-                    int blockX = x + col * BLOCK_SIZE;
-                    int blockY = y + row * BLOCK_SIZE;
-                    g2d.fillRect(blockX, blockY, BLOCK_SIZE, BLOCK_SIZE);
+    /**
+     * Rebuild the cached image from the blocks (only on reset)
+     */
+    private void rebuildImage() {
+        int width = WIDTH_BLOCKS * BLOCK_SIZE;
+        int height = HEIGHT_BLOCKS * BLOCK_SIZE;
+        int color = SHIELD_COLOR.getRGB();
+        int[] pixels = new int[width * height];
+
+        for (int py = 0; py < height; py++) {
+            for (int px = 0; px < width; px++) {
+                if (blocks[py / BLOCK_SIZE][px / BLOCK_SIZE]) {
+                    pixels[py * width + px] = color;
                 }
             }
         }
+
+        // Write through the raster so the image can stay accelerated
+        image.getRaster().setDataElements(0, 0, width, height, pixels);
     }
 
     /**
@@ -147,8 +166,12 @@ public class Shield {
      * Destroy a single block (with bounds checking)
      */
     private void destroyBlock(int row, int col) {
-        if (row >= 0 && row < HEIGHT_BLOCKS && col >= 0 && col < WIDTH_BLOCKS) {
+        if (row >= 0 && row < HEIGHT_BLOCKS && col >= 0 && col < WIDTH_BLOCKS && blocks[row][col]) {
             blocks[row][col] = false;
+
+            // Clear the block's pixels in place
+            image.getRaster().setDataElements(col * BLOCK_SIZE, row * BLOCK_SIZE, BLOCK_SIZE, BLOCK_SIZE, CLEAR_BLOCK);
+            version++;
         }
     }
     /**
@@ -189,7 +212,7 @@ public class Shield {
                 Rectangle blockBounds = new Rectangle(blockX, blockY, BLOCK_SIZE, BLOCK_SIZE);
                 
                 if (area.intersects(blockBounds)) {
-                    blocks[row][col] = false;
+                    destroyBlock(row, col);
                 }
             }
         }
@@ -204,6 +227,8 @@ public class Shield {
                 blocks[row][col] = (SHIELD_TEMPLATE[row][col] == 1);
             }
         }
+        rebuildImage();
+        version++;
     }
 
     /**
@@ -237,4 +262,28 @@ public class Shield {
      * Get Y position
      */
     public int getY() { return y; }
+
+    /**
+     * Does the block at (row, col) still exist?
+     */
+    public boolean hasBlock(int row, int col) { return blocks[row][col]; }
+
+    /**
+     * Shield size in blocks, and block size in pixels
+     */
+    public static int getBlockRows() { return HEIGHT_BLOCKS; }
+
+    public static int getBlockColumns() { return WIDTH_BLOCKS; }
+
+    public static int getBlockSize() { return BLOCK_SIZE; }
+
+    /**
+     * Get the shield color
+     */
+    public static Color getColor() { return SHIELD_COLOR; }
+
+    /**
+     * Get the image version (changes whenever blocks are destroyed or reset)
+     */
+    public int getVersion() { return version; }
 }
\ No newline at end of file
@@ -0,0 +1,258 @@
+package com.spaceinvaders.entities;
+
+import com.spaceinvaders.utils.Constants;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * Sprite atlas - every sprite frame of the game packed into one image
+ * Built once at startup and copied into a display-compatible (or volatile)
+ * image, so all sprites go through the accelerated blit path
+ * Sprites are drawn with sub-rectangle blits from the shared image
+ */
+public class SpriteAtlas {
+
+    /* SPRITE IDS */
+    public static final int ALIEN_TOP = 0;         // 2 frames (ALIEN_TOP + frame)
+    public static final int ALIEN_MIDDLE = 2;      // 2 frames
+    public static final int ALIEN_BOTTOM = 4;      // 2 frames
+    public static final int PLAYER = 6;
+    public static final int MYSTERY_SHIP = 7;
+    public static final int EXPLOSION = 8;         // 3 frames
+    private static final int SPRITE_COUNT = 11;
+
+    // Number of march frames per alien type
+    public static final int ALIEN_FRAMES = 2;
+
+    /* IMAGE FORMATS (-Dspaceinvaders.spriteFormat) */
+    public static final String FORMAT_VOLATILE = "volatile";     // Video memory, may be lost
+    public static final String FORMAT_COMPATIBLE = "compatible"; // Managed image in the screen format
+    public static final String FORMAT_ARGB = "argb";             // Plain TYPE_INT_ARGB
+
+    // Space between cells so scaled blits never bleed into neighbours
+    private static final int GAP = 2;
+
+    // Singleton instance
+    private static SpriteAtlas instance;
+
+    // Cell of each sprite inside the atlas
+    private final int[] cellX = new int[SPRITE_COUNT];
+    private final int[] cellY = new int[SPRITE_COUNT];
+    private final int[] cellWidth = new int[SPRITE_COUNT];
+    private final int[] cellHeight = new int[SPRITE_COUNT];
+
+    // Source sheet (always kept, used to restore lost surfaces)
+    private final BufferedImage sheet;
+
+    // Copy of the sheet's ARGB pixels, for software renderers (created on first use)
+    private int[] sheetPixels;
+
+    // Image that is actually drawn from
+    private final String format;
+    private final GraphicsConfiguration config;
+    private Image displayImage;
+    private VolatileImage volatileImage;
+
+    /**
+     * Private constructor - paints every sprite into the sheet
+     */
+    private SpriteAtlas() {
+        // Lay out all cells in one row
+        int x = 0;
+        int height = 0;
+        for (int id = 0; id < SPRITE_COUNT; id++) {
+            cellWidth[id] = spriteWidth(id);
+            cellHeight[id] = spriteHeight(id);
+            cellX[id] = x;
+            cellY[id] = 0;
+            x += cellWidth[id] + GAP;
+            height = Math.max(height, cellHeight[id]);
+        }
+
+        sheet = new BufferedImage(x, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = sheet.createGraphics();
+        for (int id = 0; id < SPRITE_COUNT; id++) {
+            g.translate(cellX[id], cellY[id]);
+            paintSprite(g, id);
+            g.translate(-cellX[id], -cellY[id]);
+        }
+        g.dispose();
+
+        // Pick the display format (no screen = plain ARGB)
+        config = GraphicsEnvironment.isHeadless() ? null
+            : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        String requested = System.getProperty("spaceinvaders.spriteFormat", FORMAT_VOLATILE);
+        format = config == null ? FORMAT_ARGB : requested;
+
+        createDisplayImage();
+    }
+
+    /**
+     * Get singleton instance (built on first use - call at startup)
+     */
+    public static synchronized SpriteAtlas getInstance() {
+        if (instance == null) {
+            instance = new SpriteAtlas();
+        }
+        return instance;
+    }
+
+    /**
+     * Copy the sheet into an image in the chosen format
+     */
+    private void createDisplayImage() {
+        switch (format) {
+            case FORMAT_VOLATILE -> {
+                volatileImage = config.createCompatibleVolatileImage(sheet.getWidth(), sheet.getHeight(), Transparency.BITMASK);
+                restoreVolatile();
+                displayImage = volatileImage;
+            }
+            case FORMAT_COMPATIBLE -> {
+                BufferedImage image = config.createCompatibleImage(sheet.getWidth(), sheet.getHeight(), Transparency.BITMASK);
+                copySheetInto(image.createGraphics());
+                displayImage = image;
+            }
+            default -> displayImage = sheet;
+        }
+    }
+
+    /**
+     * Re-upload the sheet into the volatile image
+     */
+    private void restoreVolatile() {
+        copySheetInto(volatileImage.createGraphics());
+    }
+
+    /**
+     * Copy the sheet as-is (transparent pixels included)
+     */
+    private void copySheetInto(Graphics2D g) {
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(sheet, 0, 0, null);
+        g.dispose();
+    }
+
+    /**
+     * Make sure the volatile image still holds the sprites
+     * Surfaces can be lost (display mode change, screen lock...) - then they are rebuilt
+     */
+    private void validate() {
+        if (volatileImage == null) return;
+
+        int status = volatileImage.validate(config);
+        if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+            volatileImage.flush();
+            createDisplayImage();
+        } else if (status == VolatileImage.IMAGE_RESTORED) {
+            restoreVolatile();
+        }
+    }
+
+    /**
+     * Draw a sprite with its top-left corner at (x, y)
+     * Drawing into an offscreen BufferedImage (layers, caches) uses the sheet -
+     * reading back from video memory would be much slower
+     */
+    public void draw(Graphics2D g2d, int sprite, int x, int y) {
+        int sx = cellX[sprite];
+        int sy = cellY[sprite];
+        int w = cellWidth[sprite];
+        int h = cellHeight[sprite];
+
+        if (g2d.getDeviceConfiguration().getDevice().getType() == GraphicsDevice.TYPE_IMAGE_BUFFER) {
+            g2d.drawImage(sheet, x, y, x + w, y + h, sx, sy, sx + w, sy + h, null);
+            return;
+        }
+
+        validate();
+        g2d.drawImage(displayImage, x, y, x + w, y + h, sx, sy, sx + w, sy + h, null);
+
+        // Lost while drawing - fall back to the sheet for this frame
+        if (volatileImage != null && volatileImage.contentsLost()) {
+            g2d.drawImage(sheet, x, y, x + w, y + h, sx, sy, sx + w, sy + h, null);
+        }
+    }
+
+    /**
+     * Create a transparent image in the same display format family as the atlas
+     * For layers that are baked from sprites and then blitted many times
+     */
+    public BufferedImage createLayer(int width, int height) {
+        if (config == null || FORMAT_ARGB.equals(format)) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        return config.createCompatibleImage(width, height, Transparency.BITMASK);
+    }
+
+    /**
+     * Sprite id of an alien type and march frame
+     * @param type 0 = top, 1 = middle, 2 = bottom
+     */
+    public static int alienSprite(int type, int frame) {
+        return ALIEN_TOP + type * ALIEN_FRAMES + frame;
+    }
+
+    /* GETTERS (for renderers that read the pixels directly) */
+    public BufferedImage getSheet() { return sheet; }
+
+    /**
+     * Get the sheet as non-premultiplied ARGB pixels (row length = getSheetWidth)
+     * A copy, so the sheet itself stays a managed image
+     */
+    public synchronized int[] getSheetPixels() {
+        if (sheetPixels == null) {
+            sheetPixels = sheet.getRGB(0, 0, sheet.getWidth(), sheet.getHeight(), null, 0, sheet.getWidth());
+        }
+        return sheetPixels;
+    }
+
+    public int getSheetWidth() { return sheet.getWidth(); }
+
+    public int getCellX(int sprite) { return cellX[sprite]; }
+
+    public int getCellY(int sprite) { return cellY[sprite]; }
+
+    public int getWidth(int sprite) { return cellWidth[sprite]; }
+
+    public int getHeight(int sprite) { return cellHeight[sprite]; }
+
+    public String getFormat() { return format; }
+
+    /* SPRITE TABLE */
+
+    private static int spriteWidth(int id) {
+        if (id < PLAYER) return Constants.ALIEN_WIDTH;
+        if (id == PLAYER) return Constants.PLAYER_WIDTH;
+        if (id == MYSTERY_SHIP) return Constants.MYSTERY_SHIP_WIDTH;
+        return Explosion.SIZE;
+    }
+
+    private static int spriteHeight(int id) {
+        if (id < PLAYER) return Constants.ALIEN_HEIGHT;
+        if (id == PLAYER) return Constants.PLAYER_HEIGHT;
+        if (id == MYSTERY_SHIP) return Constants.MYSTERY_SHIP_HEIGHT;
+        return Explosion.SIZE;
+    }
+
+    /**
+     * Paint one sprite at (0, 0) using the entity's own pixel art
+     */
+    private static void paintSprite(Graphics2D g, int id) {
+        if (id < PLAYER) {
+            Alien.paintSprite(g, (id - ALIEN_TOP) / ALIEN_FRAMES, (id - ALIEN_TOP) % ALIEN_FRAMES);
+        } else if (id == PLAYER) {
+            Player.paintSprite(g);
+        } else if (id == MYSTERY_SHIP) {
+            MysteryShip.paintSprite(g);
+        } else {
+            Explosion.paintFrame(g, id - EXPLOSION);
+        }
+    }
+}
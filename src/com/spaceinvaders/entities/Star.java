@@ -56,4 +56,18 @@ public class Star {
         g2d.setColor(new Color(brightness, brightness, brightness));
         g2d.fillRect((int) x, (int) y, size, size);
     }
+
+    /**
+     * Seed the star randomness (for reproducible runs)
+     */
+    public static void setSeed(long seed) { random = new Random(seed); }
+
+    /* GETTERS (for renderers that track or draw stars themselves) */
+    public int getX() { return (int) x; }
+
+    public int getY() { return (int) y; }
+
+    public int getSize() { return size; }
+
+    public int getBrightness() { return brightness; }
 }
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.spaceinvaders.game;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Bitmap font - every glyph is pre-rasterized once into an atlas image
+ * Text is drawn as atlas blits from a char buffer, so HUD text skips the
+ * Java2D text pipeline and allocates nothing per frame
+ */
+public class BitmapFont {
+
+    // Printable ASCII range, plus a few extra symbols used by the HUD
+    private static final char FIRST_CHAR = 32;
+    private static final char LAST_CHAR = 126;
+    private static final String EXTRA_CHARS = "♥"; // Heart (lives)
+
+    // Space around each glyph for parts that overhang the advance
+    private static final int PADDING = 2;
+
+    // Glyph atlas (one row of cells)
+    private final BufferedImage atlas;
+    private final int[] atlasPixels; // ARGB copy for the software renderer
+
+    // Per glyph: x of its cell in the atlas, cell width and advance
+    private final int[] cellX;
+    private final int[] cellWidth;
+    private final int[] advance;
+
+    // Vertical metrics
+    private final int ascent;
+    private final int cellHeight;
+
+    /**
+     * Rasterize all glyphs of a font in one color
+     */
+    public BitmapFont(Font font, Color color) {
+        int glyphCount = (LAST_CHAR - FIRST_CHAR + 1) + EXTRA_CHARS.length();
+        cellX = new int[glyphCount];
+        cellWidth = new int[glyphCount];
+        advance = new int[glyphCount];
+
+        // Measure with the same hints used when drawing
+        BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D measure = scratch.createGraphics();
+        measure.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        FontMetrics metrics = measure.getFontMetrics(font);
+
+        int x = 0;
+        for (int i = 0; i < glyphCount; i++) {
+            advance[i] = metrics.charWidth(charAt(i));
+            cellWidth[i] = advance[i] + PADDING * 2;
+            cellX[i] = x;
+            x += cellWidth[i];
+        }
+        ascent = metrics.getAscent();
+        cellHeight = metrics.getAscent() + metrics.getDescent() + PADDING * 2;
+        measure.dispose();
+
+        // Draw every glyph into its cell
+        atlas = new BufferedImage(Math.max(x, 1), cellHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = atlas.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setFont(font);
+        g.setColor(color);
+        for (int i = 0; i < glyphCount; i++) {
+            g.drawString(String.valueOf(charAt(i)), cellX[i] + PADDING, PADDING + ascent);
+        }
+        g.dispose();
+
+        atlasPixels = atlas.getRGB(0, 0, atlas.getWidth(), cellHeight, null, 0, atlas.getWidth());
+    }
+
+    /**
+     * Draw text from a char buffer
+     * @param x left of the text
+     * @param baselineY baseline (same as Graphics2D.drawString)
+     * @return x after the last glyph
+     */
+    public int drawChars(Graphics2D g2d, char[] text, int length, int x, int baselineY) {
+        int top = baselineY - ascent - PADDING;
+
+        for (int i = 0; i < length; i++) {
+            int glyph = glyphIndex(text[i]);
+            int dx = x - PADDING;
+            int sx = cellX[glyph];
+            int w = cellWidth[glyph];
+
+            // Spaces have nothing to draw
+            if (text[i] != ' ') {
+                g2d.drawImage(atlas, dx, top, dx + w, top + cellHeight, sx, 0, sx + w, cellHeight, null);
+            }
+            x += advance[glyph];
+        }
+        return x;
+    }
+
+    /**
+     * Draw text from a char buffer into a software framebuffer
+     * Same placement and blending as the Graphics2D version
+     * @return x after the last glyph
+     */
+    int drawChars(SoftwareRenderer target, char[] text, int length, int x, int baselineY) {
+        int top = baselineY - ascent - PADDING;
+
+        for (int i = 0; i < length; i++) {
+            int glyph = glyphIndex(text[i]);
+
+            // Spaces have nothing to draw
+            if (text[i] != ' ') {
+                target.blit(atlasPixels, atlas.getWidth(), cellX[glyph], 0, cellWidth[glyph], cellHeight, x - PADDING, top);
+            }
+            x += advance[glyph];
+        }
+        return x;
+    }
+
+    /**
+     * Width of text in pixels
+     */
+    public int charsWidth(char[] text, int length) {
+        int width = 0;
+        for (int i = 0; i < length; i++) {
+            width += advance[glyphIndex(text[i])];
+        }
+        return width;
+    }
+
+    /* CHAR BUFFER HELPERS (no String building) */
+
+    /**
+     * Copy a string into the buffer
+     * @return new length
+     */
+    public static int append(char[] buffer, int length, String text) {
+        text.getChars(0, text.length(), buffer, length);
+        return length + text.length();
+    }
+
+    /**
+     * Write an int's digits into the buffer
+     * @return new length
+     */
+    public static int append(char[] buffer, int length, int value) {
+        if (value == 0) {
+            buffer[length] = '0';
+            return length + 1;
+        }
+
+        long v = value;
+        if (v < 0) {
+            buffer[length++] = '-';
+            v = -v;
+        }
+
+        // Count digits, then write them right to left
+        int digits = 0;
+        for (long t = v; t > 0; t /= 10) {
+            digits++;
+        }
+        for (int i = length + digits - 1; i >= length; i--) {
+            buffer[i] = (char) ('0' + v % 10);
+            v /= 10;
+        }
+        return length + digits;
+    }
+
+    /**
+     * Glyph index for a char (unknown chars show as '?')
+     */
+    private int glyphIndex(char c) {
+        if (c >= FIRST_CHAR && c <= LAST_CHAR) {
+            return c - FIRST_CHAR;
+        }
+        int extra = EXTRA_CHARS.indexOf(c);
+        if (extra >= 0) {
+            return (LAST_CHAR - FIRST_CHAR + 1) + extra;
+        }
+        return '?' - FIRST_CHAR;
+    }
+
+    /**
+     * Char for a glyph index
+     */
+    private static char charAt(int index) {
+        int ascii = LAST_CHAR - FIRST_CHAR + 1;
+        return index < ascii ? (char) (FIRST_CHAR + index) : EXTRA_CHARS.charAt(index - ascii);
+    }
+}
@@ -0,0 +1,328 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.entities.SpriteAtlas;
+import com.spaceinvaders.utils.Constants;
+import com.spaceinvaders.utils.Settings;
+import java.awt.DisplayMode;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup calibration - finds the fastest Java2D pipeline and sprite format
+ * A pipeline can only be chosen before AWT starts, so on first launch every
+ * pipeline and sprite format is measured in a short-lived child JVM
+ * (see CalibrationProbe). The winner and a starting quality level are saved
+ * and reused until the JVM, display or game configuration changes
+ * -Dspaceinvaders.calibrate=false skips it, =true forces a new run
+ */
+public final class Calibration {
+
+    // Saved profile (next to the high score file)
+    private static final String PROFILE_FILE = "calibration.properties";
+
+    // Bump when the probe or its scenes change, so old results are measured again
+    private static final int VERSION = 1;
+
+    // A probe that takes longer than this is treated as failed
+    private static final long PROBE_TIMEOUT_SECONDS = 20;
+
+    // Starting quality from the share of the 60 FPS frame budget one frame uses
+    private static final double HIGH_QUALITY_RATIO = 0.25;
+    private static final double MEDIUM_QUALITY_RATIO = 0.5;
+
+    private static final String[] FORMATS = {
+        SpriteAtlas.FORMAT_VOLATILE, SpriteAtlas.FORMAT_COMPATIBLE, SpriteAtlas.FORMAT_ARGB
+    };
+
+    // Properties that pick a pipeline (set by the user = no calibration)
+    private static final String[] PIPELINE_PROPERTIES = {
+        "sun.java2d.xrender", "sun.java2d.opengl", "sun.java2d.d3d", "sun.java2d.metal",
+        "sun.java2d.pmoffscreen", "sun.java2d.noddraw", "spaceinvaders.spriteFormat"
+    };
+
+    // Profile in use this launch (null = none)
+    private static Properties profile;
+
+    /**
+     * One Java2D pipeline and the properties that select it
+     */
+    private static final class Pipeline {
+        final String name;
+        final String[] properties;   // "key=value"
+        final String configClass;    // Graphics configuration class name ends with this when active
+
+        Pipeline(String name, String configClass, String... properties) {
+            this.name = name;
+            this.configClass = configClass;
+            this.properties = properties;
+        }
+    }
+
+    private Calibration() {} // Static helper only
+
+    /**
+     * Apply the saved profile, calibrating first when needed
+     * Must run before anything starts AWT
+     */
+    public static void apply() {
+        String mode = System.getProperty("spaceinvaders.calibrate", "auto");
+        if (mode.equals("false") || GraphicsEnvironment.isHeadless()) return;
+
+        for (String property : PIPELINE_PROPERTIES) {
+            if (System.getProperty(property) != null) {
+                System.out.println("Calibration: skipped (" + property + " set on the command line)");
+                return;
+            }
+        }
+
+        String fingerprint = fingerprint();
+        Properties saved = load();
+        if (!mode.equals("true") && saved != null && fingerprint.equals(saved.getProperty("fingerprint"))) {
+            use(saved);
+            return;
+        }
+
+        Properties measured = calibrate(fingerprint);
+        if (measured != null) {
+            save(measured);
+            use(measured);
+        }
+    }
+
+    /**
+     * Compare the screen the game opened on with the calibrated one
+     * A different screen makes the next launch calibrate again
+     */
+    public static void checkDisplay(GraphicsDevice device) {
+        if (profile == null) return;
+
+        String display = describeDisplay(device);
+        if (!display.equals(profile.getProperty("display"))) {
+            profile.remove("fingerprint");
+            save(profile);
+            System.out.println("Calibration: display changed, will calibrate again on next launch");
+        }
+    }
+
+    /**
+     * Describe a screen (id and display mode)
+     */
+    static String describeDisplay(GraphicsDevice device) {
+        DisplayMode displayMode = device.getDisplayMode();
+        return device.getIDstring() + " " + displayMode.getWidth() + "x" + displayMode.getHeight()
+            + " " + displayMode.getBitDepth() + "bit " + displayMode.getRefreshRate() + "Hz";
+    }
+
+    /**
+     * Measure every pipeline and format, keep the fastest
+     * @return the new profile, or null when nothing could be measured
+     */
+    private static Properties calibrate(String fingerprint) {
+        System.out.println("Calibration: measuring Java2D pipelines (first launch or configuration changed)...");
+        long start = System.currentTimeMillis();
+
+        Pipeline bestPipeline = null;
+        String bestFormat = null;
+        long bestNs = Long.MAX_VALUE;
+        String display = null;
+
+        for (Pipeline pipeline : getPipelines()) {
+            for (String format : FORMATS) {
+                Properties result = runProbe(pipeline, format);
+                if (result == null) break;
+
+                // Asked for a pipeline that is not available - the JVM silently used another
+                if (!result.getProperty("PIPELINE", "").endsWith(pipeline.configClass)) {
+                    System.out.println("Calibration: " + pipeline.name + " not available");
+                    break;
+                }
+
+                long frameNs = Long.parseLong(result.getProperty("FRAME_NS"));
+                System.out.printf("Calibration: %-8s %-10s %8.1f us/frame%n", pipeline.name, format, frameNs / 1000.0);
+                display = result.getProperty("DISPLAY");
+
+                if (frameNs < bestNs) {
+                    bestNs = frameNs;
+                    bestPipeline = pipeline;
+                    bestFormat = format;
+                }
+            }
+        }
+
+        if (bestPipeline == null) {
+            System.out.println("Calibration: no pipeline could be measured, using defaults");
+            return null;
+        }
+
+        Properties result = new Properties();
+        result.setProperty("fingerprint", fingerprint);
+        result.setProperty("display", display);
+        result.setProperty("pipeline", bestPipeline.name);
+        result.setProperty("spriteFormat", bestFormat);
+        result.setProperty("quality", String.valueOf(startingQuality(bestNs)));
+        result.setProperty("frameNs", String.valueOf(bestNs));
+        System.out.println("Calibration: done in " + (System.currentTimeMillis() - start) + " ms");
+        return result;
+    }
+
+    /**
+     * Run the probe in a child JVM with one pipeline and sprite format
+     * @return the values it printed, or null when it failed or timed out
+     */
+    private static Properties runProbe(Pipeline pipeline, String format) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        for (String property : pipeline.properties) {
+            command.add("-D" + property);
+        }
+        command.add("-Dspaceinvaders.spriteFormat=" + format);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(CalibrationProbe.class.getName());
+
+        File output = null;
+        try {
+            output = File.createTempFile("spaceinvaders-probe", ".txt");
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(output).start();
+
+            if (!process.waitFor(PROBE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                System.out.println("Calibration: " + pipeline.name + " probe timed out");
+                return null;
+            }
+
+            // Keep only the "KEY value" lines the probe prints
+            Properties values = new Properties();
+            for (String line : Files.readAllLines(output.toPath())) {
+                int space = line.indexOf(' ');
+                if (space > 0 && line.substring(0, space).equals(line.substring(0, space).toUpperCase())) {
+                    values.setProperty(line.substring(0, space), line.substring(space + 1).trim());
+                }
+            }
+            return values.containsKey("FRAME_NS") ? values : null;
+        } catch (IOException e) {
+            System.out.println("Calibration: could not run probe: " + e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (output != null) {
+                output.delete();
+            }
+        }
+    }
+
+    /**
+     * Use a profile: pipeline and sprite format properties, starting quality
+     */
+    private static void use(Properties saved) {
+        String pipelineName = saved.getProperty("pipeline");
+        for (Pipeline pipeline : getPipelines()) {
+            if (!pipeline.name.equals(pipelineName)) continue;
+
+            for (String property : pipeline.properties) {
+                int equals = property.indexOf('=');
+                System.setProperty(property.substring(0, equals), property.substring(equals + 1));
+            }
+        }
+        System.setProperty("spaceinvaders.spriteFormat", saved.getProperty("spriteFormat", SpriteAtlas.FORMAT_VOLATILE));
+
+        try {
+            Settings.getInstance().setGraphicsQuality(Integer.parseInt(saved.getProperty("quality")));
+        } catch (NumberFormatException e) {
+            // Keep the default quality
+        }
+
+        profile = saved;
+        System.out.println("Calibration: using " + pipelineName + " / " + saved.getProperty("spriteFormat")
+            + ", quality " + Settings.getInstance().getGraphicsQualityName());
+    }
+
+    /**
+     * Starting quality for a measured frame time
+     */
+    private static int startingQuality(long frameNs) {
+        double budget = 1_000_000_000.0 / Constants.FPS_60;
+        if (frameNs < budget * HIGH_QUALITY_RATIO) return Constants.QUALITY_HIGH;
+        if (frameNs < budget * MEDIUM_QUALITY_RATIO) return Constants.QUALITY_MEDIUM;
+        return Constants.QUALITY_LOW;
+    }
+
+    /**
+     * Pipelines worth trying on this operating system (best guess first)
+     */
+    private static Pipeline[] getPipelines() {
+        String os = System.getProperty("os.name", "").toLowerCase();
+
+        if (os.contains("win")) {
+            return new Pipeline[] {
+                new Pipeline("d3d", "D3DGraphicsConfig", "sun.java2d.d3d=true"),
+                new Pipeline("opengl", "WGLGraphicsConfig", "sun.java2d.d3d=false", "sun.java2d.opengl=true"),
+                new Pipeline("software", ".Win32GraphicsConfig", "sun.java2d.d3d=false", "sun.java2d.opengl=false", "sun.java2d.noddraw=true")
+            };
+        }
+        if (os.contains("mac")) {
+            return new Pipeline[] {
+                new Pipeline("metal", "MTLGraphicsConfig", "sun.java2d.metal=true"),
+                new Pipeline("opengl", "CGLGraphicsConfig", "sun.java2d.metal=false", "sun.java2d.opengl=true")
+            };
+        }
+        return new Pipeline[] {
+            new Pipeline("xrender", "XRGraphicsConfig", "sun.java2d.xrender=true", "sun.java2d.opengl=false"),
+            new Pipeline("opengl", "GLXGraphicsConfig", "sun.java2d.opengl=true"),
+            new Pipeline("software", ".X11GraphicsConfig", "sun.java2d.xrender=false", "sun.java2d.opengl=false", "sun.java2d.pmoffscreen=false")
+        };
+    }
+
+    /**
+     * What the result depends on: calibration version, JVM, OS, display session and render mode
+     */
+    private static String fingerprint() {
+        return String.join("|",
+            "v" + VERSION,
+            System.getProperty("java.vm.vendor", ""),
+            System.getProperty("java.runtime.version", ""),
+            System.getProperty("os.name", "") + " " + System.getProperty("os.version", "") + " " + System.getProperty("os.arch", ""),
+            String.valueOf(System.getenv("DISPLAY")),
+            String.valueOf(System.getenv("WAYLAND_DISPLAY")),
+            String.valueOf(Runtime.getRuntime().availableProcessors()),
+            Settings.getInstance().getRenderModeName());
+    }
+
+    /**
+     * Load the saved profile (null = none or unreadable)
+     */
+    private static Properties load() {
+        File file = new File(PROFILE_FILE);
+        if (!file.exists()) return null;
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            Properties saved = new Properties();
+            saved.load(reader);
+            return saved;
+        } catch (IOException e) {
+            System.out.println("Could not load calibration, measuring again.");
+            return null;
+        }
+    }
+
+    private static void save(Properties values) {
+        try (FileWriter writer = new FileWriter(PROFILE_FILE)) {
+            values.store(writer, "Space Invaders calibration (delete to measure again)");
+        } catch (IOException e) {
+            System.out.println("Could not save calibration: " + e.getMessage());
+        }
+    }
+}
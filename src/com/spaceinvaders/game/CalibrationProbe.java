@@ -0,0 +1,72 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.entities.SpriteAtlas;
+import com.spaceinvaders.utils.Constants;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+
+/**
+ * Calibration probe - runs in a child JVM started with one Java2D pipeline
+ * Renders the sample scenes into an offscreen frame like the game's and
+ * prints what it measured, one value per line:
+ *   PIPELINE graphics configuration class (shows which pipeline really loaded)
+ *   DISPLAY  screen description
+ *   FORMAT   sprite format in use
+ *   FRAME_NS nanoseconds per frame
+ */
+public class CalibrationProbe {
+
+    private static final int WARMUP_FRAMES = 150;
+    private static final int MEASURED_FRAMES = 300;
+
+    public static void main(String[] args) {
+        GraphicsConfiguration config = GraphicsEnvironment.isHeadless() ? null
+            : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+
+        System.out.println("PIPELINE " + (config == null ? "headless" : config.getClass().getName()));
+        System.out.println("DISPLAY " + (config == null ? "headless" : Calibration.describeDisplay(config.getDevice())));
+        System.out.println("FORMAT " + SpriteAtlas.getInstance().getFormat());
+
+        // Same kind of frame the game draws into (volatile when there is a screen)
+        Image frame = config == null
+            ? new BufferedImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, BufferedImage.TYPE_INT_RGB)
+            : config.createCompatibleVolatileImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+
+        SampleScene[] scenes = {SampleScene.waveStart(), SampleScene.battle()};
+
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            drawFrame(frame, scenes[i % scenes.length]);
+        }
+        finish(frame);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_FRAMES; i++) {
+            drawFrame(frame, scenes[i % scenes.length]);
+        }
+        finish(frame);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println("FRAME_NS " + elapsed / MEASURED_FRAMES);
+        System.exit(0);
+    }
+
+    private static void drawFrame(Image frame, SampleScene scene) {
+        Graphics2D g = (Graphics2D) frame.getGraphics();
+        scene.draw(g);
+        g.dispose();
+    }
+
+    /**
+     * Wait until queued drawing is really done (accelerated pipelines draw asynchronously)
+     * Reading one pixel back forces the queue to flush
+     */
+    private static void finish(Image frame) {
+        BufferedImage pixel = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = pixel.createGraphics();
+        g.drawImage(frame, 0, 0, 1, 1, 0, 0, 1, 1, null);
+        g.dispose();
+    }
+}
@@ -0,0 +1,360 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.utils.Constants;
+import com.spaceinvaders.utils.Settings;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Dirty-rectangle renderer - for machines where fill rate is the bottleneck
+ * Damaged regions are tracked on a tile grid: every frame the old and new
+ * bounds of everything that changed are marked, and the marked tiles are
+ * redrawn into a persistent back buffer in one pass without a clip - the
+ * painter clears the damaged tiles and draws only what lies inside them
+ * They are presented as a few larger rectangles (each present has a fixed cost)
+ * When most of the screen is damaged it falls back to one full repaint
+ */
+public class DirtyRectRenderer {
+
+    // Tile size in pixels (damage granularity)
+    private static final int TILE = 16;
+    private static final int COLUMNS = (Constants.WINDOW_WIDTH + TILE - 1) / TILE;
+    private static final int ROWS = (Constants.WINDOW_HEIGHT + TILE - 1) / TILE;
+
+    // Above this share of dirty tiles, one full repaint is cheaper
+    private static final double FULL_REPAINT_RATIO = 0.5;
+
+    // Each presented rectangle costs one present - merge down to this many
+    private static final int MAX_RECTS = 16;
+
+    // Scattered damage is first gathered on a coarser grid until at most this many rectangles
+    // are left for the (quadratic) merge
+    private static final int MAX_MERGE_INPUT = MAX_RECTS * 2;
+
+    // Persistent back buffer (always holds a complete frame)
+    private final BufferedImage backBuffer;
+
+    // Tiles touched this frame and last frame (old bounds must be repainted too)
+    private boolean[] current = new boolean[COLUMNS * ROWS];
+    private boolean[] previous = new boolean[COLUMNS * ROWS];
+    private boolean fullRepaint = true;
+    private boolean repaintingAll;      // This frame is a full repaint (while painting)
+
+    // Damaged tile strips of this frame (what the painter clears), and the merged
+    // rectangles presented for them (reused, no allocations)
+    private final Rectangle[] rects = new Rectangle[COLUMNS * ROWS];
+    private int rectCount;
+    private final Rectangle[] presentRects = new Rectangle[COLUMNS * ROWS];
+    private int presentCount;
+
+    // Scratch for merging tile runs across rows:
+    // rectangle of the run starting at each column, in the row above and in this row (-1 = none)
+    private int[] runAbove = new int[COLUMNS];
+    private int[] runHere = new int[COLUMNS];
+
+    /**
+     * Constructor - creates the back buffer
+     */
+    public DirtyRectRenderer() {
+        backBuffer = new BufferedImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        for (int i = 0; i < rects.length; i++) {
+            rects[i] = new Rectangle();
+            presentRects[i] = new Rectangle();
+        }
+    }
+
+    /**
+     * Mark a region as changed this frame (old and new bounds both count)
+     */
+    public void markDirty(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) return;
+
+        int left = Math.max(0, x / TILE);
+        int top = Math.max(0, y / TILE);
+        int right = Math.min(COLUMNS - 1, (x + width - 1) / TILE);
+        int bottom = Math.min(ROWS - 1, (y + height - 1) / TILE);
+
+        for (int row = top; row <= bottom; row++) {
+            int base = row * COLUMNS;
+            for (int col = left; col <= right; col++) {
+                current[base + col] = true;
+            }
+        }
+    }
+
+    /**
+     * Repaint the whole screen on the next frame (state change, settings change...)
+     */
+    public void markAll() { fullRepaint = true; }
+
+    /**
+     * Is any part of a region damaged (this frame or last frame)?
+     * Something drawn over a damaged region must be marked whole, so the painter can draw it without a clip
+     */
+    public boolean isDirty(int x, int y, int width, int height) {
+        if (fullRepaint || repaintingAll) return true;
+        if (width <= 0 || height <= 0) return false;
+
+        int left = Math.max(0, x / TILE);
+        int top = Math.max(0, y / TILE);
+        int right = Math.min(COLUMNS - 1, (x + width - 1) / TILE);
+        int bottom = Math.min(ROWS - 1, (y + height - 1) / TILE);
+
+        for (int row = top; row <= bottom; row++) {
+            int base = row * COLUMNS;
+            for (int col = left; col <= right; col++) {
+                if (current[base + col] || previous[base + col]) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Bounds of the damaged tiles inside a region (this frame or last frame), cut to the region
+     * For things that can be drawn over themselves (opaque pixels only) - redraw them clipped to this
+     * @return false if no part of the region is damaged
+     */
+    public boolean getDirtyBounds(int x, int y, int width, int height, Rectangle out) {
+        if (fullRepaint || repaintingAll) {
+            out.setBounds(x, y, width, height);
+            return true;
+        }
+        if (width <= 0 || height <= 0) return false;
+
+        int left = Math.max(0, x / TILE);
+        int top = Math.max(0, y / TILE);
+        int right = Math.min(COLUMNS - 1, (x + width - 1) / TILE);
+        int bottom = Math.min(ROWS - 1, (y + height - 1) / TILE);
+
+        int minCol = COLUMNS;
+        int maxCol = -1;
+        int minRow = ROWS;
+        int maxRow = -1;
+        for (int row = top; row <= bottom; row++) {
+            int base = row * COLUMNS;
+            for (int col = left; col <= right; col++) {
+                if (current[base + col] || previous[base + col]) {
+                    minCol = Math.min(minCol, col);
+                    maxCol = Math.max(maxCol, col);
+                    minRow = Math.min(minRow, row);
+                    maxRow = row;
+                }
+            }
+        }
+        if (maxCol < 0) return false;
+
+        int outLeft = Math.max(x, minCol * TILE);
+        int outTop = Math.max(y, minRow * TILE);
+        int outRight = Math.min(x + width, (maxCol + 1) * TILE);
+        int outBottom = Math.min(y + height, (maxRow + 1) * TILE);
+        out.setBounds(outLeft, outTop, outRight - outLeft, outBottom - outTop);
+        return true;
+    }
+
+    /**
+     * Fill the damaged tiles (the painter's first step, they are drawn over from scratch)
+     */
+    public void clearDirty(Graphics2D g, Color background) {
+        g.setColor(background);
+        for (int i = 0; i < rectCount; i++) {
+            Rectangle r = rects[i];
+            g.fillRect(r.x, r.y, r.width, r.height);
+        }
+    }
+
+    /**
+     * Redraw the dirty regions into the back buffer
+     * @param painter clears the damage (clearDirty) and draws what lies in it (isDirty), no clip
+     * @return number of rectangles to present (see getDirtyRect)
+     */
+    public int render(Consumer<Graphics2D> painter) {
+        buildRects();
+
+        if (rectCount > 0) {
+            Graphics2D g = backBuffer.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, Settings.getInstance().isAntialiasing()
+                ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+            painter.accept(g);
+            g.dispose();
+        }
+        repaintingAll = false;
+
+        buildPresentRects();
+
+        // This frame's damage becomes next frame's old bounds
+        boolean[] swap = previous;
+        previous = current;
+        current = swap;
+        Arrays.fill(current, false);
+
+        return presentCount;
+    }
+
+    /**
+     * Get one dirty rectangle of the last rendered frame
+     */
+    public Rectangle getDirtyRect(int index) { return presentRects[index]; }
+
+    /**
+     * Get the back buffer (a complete logical frame)
+     */
+    public BufferedImage getBackBuffer() { return backBuffer; }
+
+    /**
+     * Present the back buffer (the graphics clip limits the copy)
+     */
+    public void present(Graphics2D g2d) {
+        g2d.drawImage(backBuffer, 0, 0, null);
+    }
+
+    /**
+     * Collect the damaged tiles as strips (or one full-screen rectangle)
+     */
+    private void buildRects() {
+        // Count dirty tiles
+        int dirty = 0;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] || previous[i]) dirty++;
+        }
+
+        if (fullRepaint || dirty > current.length * FULL_REPAINT_RATIO) {
+            rects[0].setBounds(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+            rectCount = 1;
+            fullRepaint = false;
+            repaintingAll = true;
+            return;
+        }
+
+        rectCount = buildStrips(1, rects);
+    }
+
+    /**
+     * Rectangles to present for this frame's damage, at most MAX_RECTS
+     * Lots of scattered damage (stars) is gathered on coarser grids first,
+     * then the closest rectangles are merged
+     */
+    private void buildPresentRects() {
+        int cell = 1;
+        presentCount = rectCount;
+        for (int i = 0; i < rectCount; i++) {
+            presentRects[i].setBounds(rects[i]);
+        }
+        while (presentCount > MAX_MERGE_INPUT) {
+            cell *= 2;
+            presentCount = buildStrips(cell, presentRects);
+        }
+        mergeRects();
+    }
+
+    /**
+     * Merge dirty tiles into rectangles, on a grid of cells of cell x cell tiles
+     * Runs of dirty cells in a row become strips, strips with the same span in
+     * consecutive rows are joined into one rectangle
+     * @return number of rectangles written to out
+     */
+    private int buildStrips(int cell, Rectangle[] out) {
+        int size = cell * TILE;
+        int columns = (COLUMNS + cell - 1) / cell;
+        int rows = (ROWS + cell - 1) / cell;
+        int count = 0;
+
+        Arrays.fill(runAbove, -1);
+
+        for (int row = 0; row < rows; row++) {
+            Arrays.fill(runHere, -1);
+
+            int col = 0;
+            while (col < columns) {
+                if (!isDirty(row, col, cell)) {
+                    col++;
+                    continue;
+                }
+
+                // Find the end of this run
+                int start = col;
+                while (col < columns && isDirty(row, col, cell)) {
+                    col++;
+                }
+                int width = (col - start) * size;
+
+                // Same span in the row above - grow that rectangle down
+                int above = runAbove[start];
+                if (above >= 0 && out[above].width == width) {
+                    out[above].height += size;
+                    runHere[start] = above;
+                } else {
+                    out[count].setBounds(start * size, row * size, width, size);
+                    runHere[start] = count++;
+                }
+            }
+
+            int[] swap = runAbove;
+            runAbove = runHere;
+            runHere = swap;
+        }
+
+        // Cells at the right and bottom edges may reach past the screen
+        for (int i = 0; i < count; i++) {
+            Rectangle r = out[i];
+            r.width = Math.min(r.width, Constants.WINDOW_WIDTH - r.x);
+            r.height = Math.min(r.height, Constants.WINDOW_HEIGHT - r.y);
+        }
+        return count;
+    }
+
+    /**
+     * Is any tile of a cell dirty this frame or last frame?
+     */
+    private boolean isDirty(int cellRow, int cellCol, int cell) {
+        int bottom = Math.min(ROWS, (cellRow + 1) * cell);
+        int right = Math.min(COLUMNS, (cellCol + 1) * cell);
+        for (int row = cellRow * cell; row < bottom; row++) {
+            int base = row * COLUMNS;
+            for (int col = cellCol * cell; col < right; col++) {
+                if (current[base + col] || previous[base + col]) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Merge presented rectangles until at most MAX_RECTS remain
+     * Always joins the pair whose bounding box adds the least extra area
+     */
+    private void mergeRects() {
+        while (presentCount > MAX_RECTS) {
+            int bestA = 0;
+            int bestB = 1;
+            long bestWaste = Long.MAX_VALUE;
+
+            for (int a = 0; a < presentCount; a++) {
+                Rectangle ra = presentRects[a];
+                for (int b = a + 1; b < presentCount; b++) {
+                    Rectangle rb = presentRects[b];
+                    int left = Math.min(ra.x, rb.x);
+                    int top = Math.min(ra.y, rb.y);
+                    int right = Math.max(ra.x + ra.width, rb.x + rb.width);
+                    int bottom = Math.max(ra.y + ra.height, rb.y + rb.height);
+                    long waste = (long) (right - left) * (bottom - top)
+                        - (long) ra.width * ra.height - (long) rb.width * rb.height;
+                    if (waste < bestWaste) {
+                        bestWaste = waste;
+                        bestA = a;
+                        bestB = b;
+                    }
+                }
+            }
+
+            // Grow A to cover B, then move the last rectangle into B's slot
+            presentRects[bestA].add(presentRects[bestB]);
+            Rectangle last = presentRects[--presentCount];
+            presentRects[presentCount] = presentRects[bestB];
+            presentRects[bestB] = last;
+        }
+    }
+}
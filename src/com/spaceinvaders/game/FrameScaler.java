@@ -0,0 +1,149 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.utils.Constants;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.function.Consumer;
+
+/**
+ * Frame scaler - shows the logical 800x600 frame at any window size
+ * The game always draws at its logical size into one offscreen frame, which
+ * is then scaled onto the window with a single blit (letterboxed, aspect kept)
+ * Integer mode uses whole-number nearest-neighbour scaling (sharp pixels),
+ * fit mode fills as much of the window as possible with bilinear filtering
+ */
+public class FrameScaler {
+
+    private static final Color COLOR_BARS = Color.BLACK;
+
+    // Placement of the frame in the window (recomputed on resize)
+    private int windowWidth = -1;
+    private int windowHeight = -1;
+    private int scaleMode = -1;
+    private double scale = 1;
+    private int offsetX;
+    private int offsetY;
+    private int frameWidth = Constants.WINDOW_WIDTH;
+    private int frameHeight = Constants.WINDOW_HEIGHT;
+
+    // Offscreen logical frame (volatile when a screen is available)
+    private VolatileImage volatileFrame;
+    private BufferedImage bufferedFrame;
+
+    /**
+     * Place the frame in a window of the given size
+     * @return true when the placement changed
+     */
+    public boolean update(int width, int height, int mode) {
+        if (width == windowWidth && height == windowHeight && mode == scaleMode) return false;
+
+        windowWidth = width;
+        windowHeight = height;
+        scaleMode = mode;
+
+        double fit = Math.min((double) width / Constants.WINDOW_WIDTH, (double) height / Constants.WINDOW_HEIGHT);
+        if (mode == Constants.SCALE_MODE_INTEGER && fit >= 1) {
+            scale = Math.floor(fit);
+        } else {
+            scale = Math.max(fit, 0.1); // Window smaller than the game - shrink it
+        }
+
+        frameWidth = (int) Math.round(Constants.WINDOW_WIDTH * scale);
+        frameHeight = (int) Math.round(Constants.WINDOW_HEIGHT * scale);
+        offsetX = (width - frameWidth) / 2;
+        offsetY = (height - frameHeight) / 2;
+        return true;
+    }
+
+    /**
+     * Does the frame fill the window 1:1? (then it can be drawn directly)
+     */
+    public boolean isIdentity() {
+        return scale == 1 && offsetX == 0 && offsetY == 0;
+    }
+
+    /**
+     * Draw a frame through the scaler
+     * @param g window graphics
+     * @param config screen configuration of the window (null = no screen)
+     * @param painter draws one logical frame
+     */
+    public void paint(Graphics2D g, GraphicsConfiguration config, Consumer<Graphics2D> painter) {
+        if (config == null) {
+            if (bufferedFrame == null) {
+                bufferedFrame = new BufferedImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+            }
+            Graphics2D frame = bufferedFrame.createGraphics();
+            painter.accept(frame);
+            frame.dispose();
+            present(g, bufferedFrame);
+            return;
+        }
+
+        // Volatile surfaces can be lost at any time - redraw until the frame survives
+        do {
+            if (volatileFrame == null || volatileFrame.validate(config) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                if (volatileFrame != null) {
+                    volatileFrame.flush();
+                }
+                volatileFrame = config.createCompatibleVolatileImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+            }
+
+            Graphics2D frame = volatileFrame.createGraphics();
+            painter.accept(frame);
+            frame.dispose();
+            present(g, volatileFrame);
+        } while (volatileFrame.contentsLost());
+    }
+
+    /**
+     * Blit a logical-size image scaled into place and fill the letterbox bars
+     * (the graphics clip limits the copy)
+     */
+    public void present(Graphics2D g, Image frame) {
+        fillBars(g);
+
+        Object oldHint = g.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, scaleMode == Constants.SCALE_MODE_INTEGER
+            ? RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR
+            : RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(frame, offsetX, offsetY, offsetX + frameWidth, offsetY + frameHeight,
+            0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, null);
+        if (oldHint != null) {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, oldHint);
+        }
+    }
+
+    /**
+     * Fill the window area around the frame
+     */
+    private void fillBars(Graphics2D g) {
+        if (frameWidth >= windowWidth && frameHeight >= windowHeight) return;
+
+        g.setColor(COLOR_BARS);
+        int right = offsetX + frameWidth;
+        int bottom = offsetY + frameHeight;
+        g.fillRect(0, 0, windowWidth, offsetY);                              // Top
+        g.fillRect(0, bottom, windowWidth, windowHeight - bottom);           // Bottom
+        g.fillRect(0, offsetY, offsetX, frameHeight);                        // Left
+        g.fillRect(right, offsetY, windowWidth - right, frameHeight);        // Right
+    }
+
+    /**
+     * Map a logical rectangle to the window area it covers (grown by a pixel for filtering)
+     */
+    public Rectangle toWindow(Rectangle logical, Rectangle out) {
+        int left = (int) Math.floor(logical.x * scale) - 1;
+        int top = (int) Math.floor(logical.y * scale) - 1;
+        int right = (int) Math.ceil((logical.x + logical.width) * scale) + 1;
+        int bottom = (int) Math.ceil((logical.y + logical.height) * scale) + 1;
+        out.setBounds(offsetX + left, offsetY + top, right - left, bottom - top);
+        return out;
+    }
+}
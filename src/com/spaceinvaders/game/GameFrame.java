@@ -2,8 +2,14 @@ package com.spaceinvaders.game;
 
 import com.spaceinvaders.utils.Constants;
 import com.spaceinvaders.utils.ScoreManager;
+import com.spaceinvaders.utils.Settings;
 
 import javax.swing.JFrame;
+import java.awt.Dimension;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.Insets;
+import java.awt.Rectangle;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import javax.swing.ImageIcon;
@@ -12,6 +18,11 @@ import javax.swing.ImageIcon;
  * Main game window class
  */
 public class GameFrame extends JFrame {
+
+    private final GamePanel gamePanel;
+
+    // Window bounds to go back to when leaving full screen
+    private Rectangle windowedBounds;
     
     /**
      * Constructor - creates the game window
@@ -24,12 +35,14 @@ public class GameFrame extends JFrame {
         setWindowIcon();
 
         // Create and add GamePanel
-        GamePanel gamePanel = new GamePanel();
+        gamePanel = new GamePanel();
         add(gamePanel);
 
         // Configure window
-        setResizable(false);     // Cannot resize
+        setResizable(true);      // The game scales to any size
         pack();                            // Size to fit GamePanel
+        setMinimumSize(new Dimension(getWidth() / 2, getHeight() / 2));
+        fitToScreen();
         setLocationRelativeTo(null);    // Center on screen
         setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE); // Handle close manually
 
@@ -46,11 +59,54 @@ public class GameFrame extends JFrame {
 
         // Make visible
         setVisible(true);
+        Calibration.checkDisplay(getGraphicsConfiguration().getDevice());
+        if (Settings.getInstance().isStartFullScreen()) {
+            toggleFullScreen();
+        }
 
         // Request focus for keyboard input
         gamePanel.requestFocusInWindow();
     }
 
+    /**
+     * Big screens start at the largest whole-number scale that fits
+     */
+    private void fitToScreen() {
+        Rectangle screen = GraphicsEnvironment.getLocalGraphicsEnvironment().getMaximumWindowBounds();
+        Insets insets = getInsets();
+        int scale = Math.min(
+            (screen.width - insets.left - insets.right) / Constants.WINDOW_WIDTH,
+            (screen.height - insets.top - insets.bottom) / Constants.WINDOW_HEIGHT);
+
+        if (scale > 1) {
+            gamePanel.setPreferredSize(new Dimension(Constants.WINDOW_WIDTH * scale, Constants.WINDOW_HEIGHT * scale));
+            pack();
+        }
+    }
+
+    /**
+     * Switch between the window and full screen (F11)
+     * Decorations can only change while the frame is not displayable
+     */
+    public void toggleFullScreen() {
+        GraphicsDevice device = getGraphicsConfiguration().getDevice();
+
+        if (device.getFullScreenWindow() == this) {
+            device.setFullScreenWindow(null);
+            dispose();
+            setUndecorated(false);
+            setBounds(windowedBounds);
+            setVisible(true);
+        } else {
+            windowedBounds = getBounds();
+            dispose();
+            setUndecorated(true);
+            device.setFullScreenWindow(this);
+        }
+
+        gamePanel.requestFocusInWindow();
+    }
+
     /**
      * Sets the window icon - tries multiple locations
      */
@@ -10,13 +10,18 @@ import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 
 /**
@@ -24,6 +29,39 @@ import javax.swing.Timer;
  */
 public class GamePanel extends JPanel implements ActionListener {
 
+    /* SHARED FONTS & COLORS (created once, not every frame) */
+    private static final Font FONT_BOLD_18 = new Font("Arial", Font.BOLD, 18);
+    private static final Font FONT_BOLD_20 = new Font("Arial", Font.BOLD, 20);
+    private static final Font FONT_BOLD_22 = new Font("Arial", Font.BOLD, 22);
+    private static final Font FONT_BOLD_28 = new Font("Arial", Font.BOLD, 28);
+    private static final Font FONT_BOLD_30 = new Font("Arial", Font.BOLD, 30);
+    private static final Font FONT_BOLD_48 = new Font("Arial", Font.BOLD, 48);
+    private static final Font FONT_BOLD_60 = new Font("Arial", Font.BOLD, 60);
+    private static final Font FONT_BOLD_72 = new Font("Arial", Font.BOLD, 72);
+    private static final Font FONT_PLAIN_12 = new Font("Arial", Font.PLAIN, 12);
+    private static final Font FONT_PLAIN_14 = new Font("Arial", Font.PLAIN, 14);
+    private static final Font FONT_PLAIN_16 = new Font("Arial", Font.PLAIN, 16);
+    private static final Font FONT_PLAIN_20 = new Font("Arial", Font.PLAIN, 20);
+    private static final Font FONT_PLAIN_22 = new Font("Arial", Font.PLAIN, 22);
+    private static final Font FONT_PLAIN_24 = new Font("Arial", Font.PLAIN, 24);
+
+    private static final Color COLOR_BACKGROUND = new Color(10, 10, 30);
+    private static final Color COLOR_WHITE = new Color(255, 255, 255);
+    private static final Color COLOR_GREEN = new Color(0, 255, 0);
+    private static final Color COLOR_CYAN = new Color(0, 255, 255);
+    private static final Color COLOR_PURPLE = new Color(255, 0, 255);
+    private static final Color COLOR_RED = new Color(255, 0, 0);
+    private static final Color COLOR_YELLOW = new Color(255, 255, 0);
+    private static final Color COLOR_INACTIVE = new Color(150, 150, 150);
+    private static final Color COLOR_HINT = new Color(100, 100, 100);
+    private static final Color COLOR_CREDITS = new Color(80, 80, 80);
+    private static final Color COLOR_BOX = new Color(20, 20, 40);
+    private static final Color COLOR_BAR_BACKGROUND = new Color(50, 50, 50);
+    private static final Color COLOR_HIGHLIGHT = new Color(0, 255, 0, 50);
+    private static final Color COLOR_SHADE = new Color(0, 0, 0, 150);
+    private static final Color COLOR_GAME_OVER_SHADE = new Color(100, 0, 0, 150);
+    private static final Color COLOR_VICTORY_SHADE = new Color(0, 100, 0, 150);
+
     /* MENU */
     private int menuSelection = 0; // 0 = Play, 1 = Controls, 2 = Exit
     private static final int MENU_PLAY = 0;
@@ -39,8 +77,10 @@ public class GamePanel extends JPanel implements ActionListener {
     private static final int SETTINGS_GRAPHICS = 2;
     private static final int SETTINGS_FPS_LIMIT = 3;
     private static final int SETTINGS_SHOW_FPS = 4;
-    private static final int SETTINGS_BACK = 5;
-    private static final int SETTINGS_OPTIONS = 6;
+    private static final int SETTINGS_SCALE = 5;
+    private static final int SETTINGS_CRT = 6;
+    private static final int SETTINGS_BACK = 7;
+    private static final int SETTINGS_OPTIONS = 8;
 
     /* SOUND & SETTINGS */
     private SoundManager soundManager;
@@ -58,10 +98,66 @@ public class GamePanel extends JPanel implements ActionListener {
     /* DELTA TIME */
     private long lastUpdateTime;
     private double deltaTime;
+    private double tickAccumulator; // Unsimulated time in fixed-step mode
 
     /* ANIMATED ALIENS FOR MENU */
     private int menuAlienFrame = 0;
     private double menuAlienTimer = 0;
+    private static final Color[] MENU_ALIEN_COLORS = {COLOR_GREEN, COLOR_CYAN, COLOR_PURPLE, COLOR_CYAN, COLOR_GREEN};
+    private BufferedImage[] menuAlienSprites; // One pre-drawn alien per color
+
+    /* BITMAP FONTS & TEXT BUFFER (HUD text without allocations) */
+    private final BitmapFont hudFont = new BitmapFont(FONT_BOLD_20, Color.WHITE);
+    private final BitmapFont fpsFont = new BitmapFont(FONT_PLAIN_14, Color.YELLOW);
+    private final char[] textBuffer = new char[64];
+    private final char[] fpsTextBuffer = new char[16]; // Separate, the FPS layer may be painted in parallel with the HUD
+
+    /* CACHED STATIC SCREENS */
+    private final ScreenCache menuCache = new ScreenCache();
+    private final ScreenCache controlsCache = new ScreenCache();
+    private final ScreenCache settingsCache = new ScreenCache();
+
+    /* HUD LAYOUT */
+    private static final int HUD_PARTS = 3;         // Score, wave, lives
+    private static final int HUD_BASELINE = 30;
+    private static final int FPS_TEXT_X = Constants.WINDOW_WIDTH - 70;
+    private static final int FPS_TEXT_Y = Constants.WINDOW_HEIGHT - 10;
+
+    /* HUD AREAS (for damage tracking and layer bounds) */
+    private static final int HUD_HEIGHT = 40;       // Band covering the score, wave and lives text
+    private static final int FPS_AREA_WIDTH = 74;   // Corner covering the FPS text
+    private static final int FPS_AREA_HEIGHT = 30;
+
+    /* SOFTWARE FRAMEBUFFER RENDERING (null = draw with Java2D) */
+    private SoftwareRenderer softwareRenderer;
+
+    /* TERMINAL OUTPUT (null = draw to the window) */
+    private TerminalRenderer terminalRenderer;
+    private BufferedImage terminalFrame;
+    private int[] terminalPixels;
+
+    /* AUTO QUALITY (frame time of the last frame: update + paint) */
+    private final QualityGovernor qualityGovernor = new QualityGovernor();
+    private long frameWorkNanos;
+
+    /* POST-PROCESSING (null in dirty mode - glows would leave trails outside the damage) */
+    private PostProcessor postProcessor;
+
+    /* SCALING (logical frame to window size) */
+    private final FrameScaler frameScaler = new FrameScaler();
+    private final Rectangle windowRect = new Rectangle();
+
+    /* PARALLEL LAYER RENDERING (null = draw everything on the EDT) */
+    private ParallelLayerRenderer layerRenderer;
+
+    /* DIRTY-RECTANGLE RENDERING (null = full repaint every frame) */
+    private DirtyRectRenderer dirtyRenderer;
+    private final Rectangle damageBounds = new Rectangle();
+    private int[] shieldVersions;           // Shield image versions already on screen
+    private int hudScore = -1;              // HUD values already on screen
+    private int hudLives = -1;
+    private int hudWave = -1;
+    private int hudFps = -1;
 
     /* GAME OBJECTS */
     private Player player;
@@ -69,6 +165,7 @@ public class GamePanel extends JPanel implements ActionListener {
     private List<Bullet> bullets;
     private MysteryShip mysteryShip;
     private List<Explosion> explosions;
+    private ParticleSystem particles;
     private Shield[] shields;
 
     /* FPS COUNTER */
@@ -93,6 +190,14 @@ public class GamePanel extends JPanel implements ActionListener {
      * Constructor - setup panel and start game
      */
     public GamePanel() {
+        this(true);
+    }
+
+    /**
+     * Constructor
+     * @param runLoop false = no game loop timer, the game only moves when stepped (scenes)
+     */
+    GamePanel(boolean runLoop) {
         // Setup panel size and color
         setPreferredSize(new Dimension(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT));
         setBackground(new Color(0, 0, 0)); // Pure black for space
@@ -106,7 +211,41 @@ public class GamePanel extends JPanel implements ActionListener {
         soundManager = SoundManager.getInstance();
         scoreManager = ScoreManager.getInstance();
 
-        // Initialize stars based on settings
+        // Build the sprite atlas up front (not on the first frame)
+        SpriteAtlas.getInstance();
+
+        // Optional dirty-rectangle renderer
+        if (settings.getRenderMode() == Constants.RENDER_MODE_DIRTY) {
+            dirtyRenderer = new DirtyRectRenderer();
+        }
+
+        // CRT post-processing (used when turned on in the settings)
+        if (dirtyRenderer == null) {
+            postProcessor = new PostProcessor();
+        }
+
+        // Optional software framebuffer renderer
+        if (settings.getRenderMode() == Constants.RENDER_MODE_SOFTWARE) {
+            softwareRenderer = new SoftwareRenderer();
+        }
+
+        // Optional parallel layer renderer (single core machines keep the normal path,
+        // scenes always use it so the golden suite checks it on any machine)
+        if (settings.getRenderMode() == Constants.RENDER_MODE_PARALLEL && !ParallelLayerRenderer.isSupported() && runLoop) {
+            System.out.println("Layer renderer: only one core, drawing on the EDT");
+        } else if (settings.getRenderMode() == Constants.RENDER_MODE_PARALLEL) {
+            layerRenderer = new ParallelLayerRenderer();
+            layerRenderer.setPainter(ParallelLayerRenderer.LAYER_SHIPS, this::drawShips);
+            layerRenderer.setPainter(ParallelLayerRenderer.LAYER_SHIELDS, this::drawShields);
+            layerRenderer.setPainter(ParallelLayerRenderer.LAYER_EFFECTS, this::drawEffects);
+            layerRenderer.setPainter(ParallelLayerRenderer.LAYER_HUD, this::drawHUD);
+            layerRenderer.setPainter(ParallelLayerRenderer.LAYER_FPS, this::drawFps);
+        }
+
+        // Initialize stars based on settings (seeded for reproducible runs)
+        if (settings.getSimulationSeed() != null) {
+            Star.setSeed(settings.getSimulationSeed() + 2);
+        }
         initStars();
 
         // Setup input handler
@@ -122,7 +261,9 @@ public class GamePanel extends JPanel implements ActionListener {
 
         // Start game loop timer
         gameTimer = new Timer(settings.getTimerDelay(), this);
-        gameTimer.start();
+        if (runLoop) {
+            gameTimer.start();
+        }
     }
 
     /**
@@ -136,15 +277,42 @@ public class GamePanel extends JPanel implements ActionListener {
         }
     }
 
+    /**
+     * Change the star count, keeping the stars already on screen
+     */
+    private void resizeStars(int count) {
+        int oldCount = stars.length;
+        if (count == oldCount) return;
+
+        stars = Arrays.copyOf(stars, count);
+        for (int i = oldCount; i < count; i++) {
+            stars[i] = new Star();
+        }
+    }
+
+    /**
+     * Apply the governor's level - star count, particle budget and anti-aliasing
+     */
+    private void applyAutoQuality() {
+        settings.setAutoLevel(qualityGovernor.getLevel());
+        resizeStars(settings.getStarCount());
+        particles.setBudget(settings.getParticleBudget());
+        if (dirtyRenderer != null) {
+            dirtyRenderer.markAll();
+        }
+    }
+
     /**
      * Initialize or reset the game
      */
     private void initGame() {
         player = new Player();
-        alienFormation = new AlienFormation();
+        alienFormation = new AlienFormation(settings.isFixedStepSimulation());
+
         bullets = new ArrayList<>();
         mysteryShip = null;
         explosions = new ArrayList<>();
+        particles = new ParticleSystem(settings.getParticleBudget());
 
         // Create shields
         createShields();
@@ -168,11 +336,13 @@ public class GamePanel extends JPanel implements ActionListener {
      * Start a new game
      */
     private void startGame() {
+        seedSimulation();
         player.reset();
         alienFormation.fullReset();
         bullets.clear();
         mysteryShip = null;
         explosions.clear();
+        particles.clear();
 
         // Reset shields
         for (Shield shield : shields) {
@@ -188,6 +358,20 @@ public class GamePanel extends JPanel implements ActionListener {
         soundManager.playBackgroundMusic();
     }
 
+    /**
+     * Seed simulation randomness for reproducible runs
+     * Done for every new game, so each one plays out the same whatever came before
+     */
+    private void seedSimulation() {
+        Long seed = settings.getSimulationSeed();
+        if (seed == null) return;
+
+        alienFormation.setSeed(seed);
+        MysteryShip.setSeed(seed + 1);
+        Star.setSeed(seed + 2);
+        particles.setSeed(seed + 3);
+    }
+
     /**
      * Start next wave 
      */
@@ -198,6 +382,7 @@ public class GamePanel extends JPanel implements ActionListener {
         bullets.clear();
         mysteryShip = null;
         explosions.clear();
+        particles.clear();
         player.reset();
 
         // Reset shields for new wave
@@ -216,10 +401,18 @@ public class GamePanel extends JPanel implements ActionListener {
         deltaTime = (currentTime - lastUpdateTime) / 1_000_000_000.0; // Convert to seconds
         lastUpdateTime = currentTime;
 
+        // AUTO quality - let the governor judge the last frame (only gameplay frames count)
+        if (settings.isAutoQuality() && gameState == GameState.PLAYING && frameWorkNanos > 0
+                && qualityGovernor.record(frameWorkNanos, settings.getTargetFps())) {
+            applyAutoQuality();
+        }
+        frameWorkNanos = 0;
+
         // Cap delta time to prevent huge jumps (for example, when window is minimized)
         if (deltaTime > 0.1) {
             deltaTime = 0.1;
         }
+        double frameTime = deltaTime;
 
         // Calculate FPS
         frameCount++;
@@ -230,6 +423,31 @@ public class GamePanel extends JPanel implements ActionListener {
             lastFpsTime = currentMillis;
         }
 
+        advanceFrame(frameTime);
+
+        // Allways repaint (only damaged regions while playing in dirty mode)
+        if (terminalRenderer != null) {
+            drawTerminalFrame();
+        } else if (dirtyRenderer != null && gameState == GameState.PLAYING) {
+            int count = renderDirtyRegions();
+            for (int i = 0; i < count; i++) {
+                Rectangle rect = dirtyRenderer.getDirtyRect(i);
+                paintImmediately(frameScaler.isIdentity() ? rect : frameScaler.toWindow(rect, windowRect));
+            }
+        } else {
+            if (dirtyRenderer != null) {
+                dirtyRenderer.markAll(); // Back to playing starts with a full frame
+            }
+            repaint();
+        }
+
+        frameWorkNanos += System.nanoTime() - currentTime;
+    }
+
+    /**
+     * Move everything on by one frame: background, input, then the game when playing
+     */
+    private void advanceFrame(double frameTime) {
         // Update stars (always, for background animation)
         for (Star star : stars) {
             star.update(deltaTime);
@@ -247,17 +465,114 @@ public class GamePanel extends JPanel implements ActionListener {
 
         // Update game if playing 
         if (gameState == GameState.PLAYING) {
-            update();
+            if (settings.isFixedStepSimulation()) {
+                runFixedTicks(frameTime);
+            } else {
+                update();
+            }
+        } else {
+            tickAccumulator = 0;
         }
+    }
+
+    /* SCENES (package-private - GoldenScene drives a panel built without its loop) */
+
+    /**
+     * Run one game loop frame of a fixed length, without timing or painting
+     */
+    void step(double frameTime) {
+        deltaTime = frameTime;
+        advanceFrame(frameTime);
+
+        // Dirty mode keeps its back buffer up to date frame by frame, as in the game loop
+        if (dirtyRenderer != null && gameState == GameState.PLAYING) {
+            renderDirtyRegions();
+        } else if (dirtyRenderer != null) {
+            dirtyRenderer.markAll();
+        }
+    }
+
+    /**
+     * Draw the frame the window would show
+     * In dirty mode while playing that is the back buffer (this frame's damage is redrawn first)
+     */
+    void paintShownFrame(Graphics2D g2d) {
+        if (dirtyRenderer != null && gameState == GameState.PLAYING) {
+            renderDirtyRegions();
+            dirtyRenderer.present(g2d);
+        } else {
+            paintFrame(g2d);
+        }
+    }
+
+    /**
+     * Paint one frame the way the game loop does
+     * In dirty mode while playing only the damage is redrawn and copied to the target
+     */
+    void paintLoopFrame(Graphics2D g2d) {
+        if (dirtyRenderer != null && gameState == GameState.PLAYING) {
+            int count = renderDirtyRegions();
+            for (int i = 0; i < count; i++) {
+                g2d.setClip(dirtyRenderer.getDirtyRect(i));
+                dirtyRenderer.present(g2d);
+            }
+            g2d.setClip(null);
+        } else {
+            paintFrame(g2d);
+        }
+    }
+
+    /**
+     * Jump ahead to a later wave (as if the waves before it were cleared)
+     */
+    void skipToWave(int targetWave) {
+        while (wave < targetWave) {
+            nextWave();
+        }
+    }
+
+    /**
+     * Hit a living alien (as if a shot reached it)
+     * @param index index among the living aliens
+     */
+    void hitAlien(int index) {
+        killAlien(alienFormation.getLivingAlien(index));
+    }
+
+    /**
+     * Show this high score instead of the saved one
+     */
+    void setHighScore(int highScore) { this.highScore = highScore; }
+
+    /**
+     * Fixed-step mode - run whole simulation ticks for the elapsed frame time
+     * Every tick uses the same delta time, so the simulation does not depend on frame timing
+     */
+    private void runFixedTicks(double frameTime) {
+        tickAccumulator += frameTime;
+        deltaTime = Constants.SIMULATION_TICK;
+
+        int ticks = 0;
+        while (tickAccumulator >= Constants.SIMULATION_TICK && gameState == GameState.PLAYING) {
+            update();
+            tickAccumulator -= Constants.SIMULATION_TICK;
 
-        // Allways repaint
-        repaint();
+            // Too far behind - drop the rest instead of spiraling
+            if (++ticks == Constants.SIMULATION_MAX_TICKS_PER_FRAME) {
+                tickAccumulator = 0;
+            }
+        }
     }
 
     /**
      * Handle keyboard input based on game state
      */
     private void handleInput() {
+        // F11 toggles full screen in every state
+        if (input.consumeFullScreen() && SwingUtilities.getWindowAncestor(this) instanceof GameFrame frame) {
+            frame.toggleFullScreen();
+        }
+
         // MENU state
         if (gameState == GameState.MENU) {
             // Navigate up
@@ -321,7 +636,9 @@ public class GamePanel extends JPanel implements ActionListener {
                 gameState = GameState.MENU;
                 } else if (settingsSelection == SETTINGS_GRAPHICS) {
                     settings.cycleGraphicsQuality();
+                    qualityGovernor.reset();
                     initStars();
+                    particles.setBudget(settings.getParticleBudget());
                     soundManager.playMenuConfirm();
                 } else if (settingsSelection == SETTINGS_FPS_LIMIT) {
                     settings.cycleFpsOption();
@@ -330,6 +647,15 @@ public class GamePanel extends JPanel implements ActionListener {
                 } else if (settingsSelection == SETTINGS_SHOW_FPS) {
                     settings.toggleShowFps();
                     soundManager.playMenuConfirm();
+                } else if (settingsSelection == SETTINGS_SCALE) {
+                    settings.cycleScaleMode();
+                    soundManager.playMenuConfirm();
+                } else if (settingsSelection == SETTINGS_CRT) {
+                    settings.togglePostProcessing();
+                    if (postProcessor != null) {
+                        postProcessor.reset(); // Dropped effects get another chance
+                    }
+                    soundManager.playMenuConfirm();
                 }
             }
             if (input.consumeEscape()) {
@@ -403,8 +729,9 @@ public class GamePanel extends JPanel implements ActionListener {
                     true
                 );
                 bullets.add(bullet);
+                particles.emitMuzzleFlash(player.getCenterX(), player.getY());
                 player.shoot();
-                soundManager.playPlayerShoot(); // Play shoot sound
+                soundManager.playPlayerShoot(player.getCenterX()); // Play shoot sound
             }
 
             if (input.consumePause()) {
@@ -444,6 +771,10 @@ public class GamePanel extends JPanel implements ActionListener {
                 soundManager.playMenuSelect();
                 break;
             }
+            case SETTINGS_SCALE -> {
+                settings.cycleScaleMode(); // Only two modes - both directions just switch
+                soundManager.playMenuSelect();
+            }
         }   
     }
 
@@ -465,12 +796,15 @@ public class GamePanel extends JPanel implements ActionListener {
 
         // Update alien formation
         alienFormation.update(deltaTime);
+        if (alienFormation.consumeMarchStep()) {
+            soundManager.playMarchStep(alienFormation.getSpeedTier());
+        }
 
         // Alien shooting
-        Bullet alienBullet = alienFormation.tryShoot(deltaTime);
+        Bullet alienBullet = alienFormation.tryShoot(deltaTime, player.getCenterX());
         if (alienBullet != null) {
             bullets.add(alienBullet);
-            soundManager.playAlienShoot();
+            soundManager.playAlienShoot(alienBullet.getCenterX());
         }
 
         // Update bullets
@@ -498,6 +832,9 @@ public class GamePanel extends JPanel implements ActionListener {
             }
         }
 
+        // Update particles
+        particles.update(deltaTime);
+
         // Check collisions
         checkCollisions();
 
@@ -535,6 +872,24 @@ public class GamePanel extends JPanel implements ActionListener {
         }
     }
 
+    /**
+     * An alien was hit - score, explosion, particles and sound
+     */
+    private void killAlien(Alien alien) {
+        alienFormation.destroyAlien(alien); // Also updates shooters and speed
+        score += alien.getPoints();
+
+        // Create explosion at alien position
+        Color explosionColor = getAlienColor(alien.getRow());
+        explosions.add(new Explosion(
+            alien.getX() + alien.getWidth() / 2,
+            alien.getY() + alien.getHeight() / 2,
+            explosionColor
+        ));
+        particles.emitAlienDeath(alien.getCenterX(), alien.getCenterY(), explosionColor);
+        soundManager.playExplosion(alien.getCenterX());
+    }
+
     /**
      * Check all collisions
      */
@@ -545,6 +900,9 @@ public class GamePanel extends JPanel implements ActionListener {
 
             for (Shield shield : shields) {
                 if (shield.checkBulletCollision(bullet)) {
+                    // Chips fly off the side that was hit
+                    double hitY = bullet.isPlayerBullet() ? bullet.getY() : bullet.getY() + bullet.getHeight();
+                    particles.emitShieldChips(bullet.getCenterX(), hitY, bullet.isPlayerBullet());
                     bullet.destroy();
                     break; // Bullet can only hit one shield
                 }
@@ -555,24 +913,12 @@ public class GamePanel extends JPanel implements ActionListener {
         for (Bullet bullet : bullets) {
             if (!bullet.isPlayerBullet() || !bullet.isActive()) continue;
         
-            for (Alien alien : alienFormation.getAliens()) {
-                if (!alien.isActive()) continue;
+            for (int i = 0; i < alienFormation.getAliveCount(); i++) {
+                Alien alien = alienFormation.getLivingAlien(i);
 
                 if (bullet.collidesWith(alien)) {
                     bullet.destroy();
-                    alien.destroy();
-                    score += alien.getPoints();
-                    alienFormation.increaseSpeed();
-                    
-                    // Create explosion at alien position
-                    Color explosionColor = getAlienColor(alien.getRow());
-                    explosions.add(new Explosion(
-                        alien.getX() + alien.getWidth() / 2,
-                        alien.getY() + alien.getHeight() / 2,
-                        explosionColor
-                    ));
-                    soundManager.playExplosion();
-
+                    killAlien(alien);
                     break;
                 }
             }
@@ -591,9 +937,10 @@ public class GamePanel extends JPanel implements ActionListener {
                     explosions.add(new Explosion(
                     mysteryShip.getX() + mysteryShip.getWidth() / 2,
                     mysteryShip.getY() + mysteryShip.getHeight() / 2,
-                    new Color(255, 0, 0)  // Red explosion
+                    COLOR_RED  // Red explosion
                     ));
-                    soundManager.playExplosion();
+                    particles.emitAlienDeath(mysteryShip.getCenterX(), mysteryShip.getCenterY(), COLOR_RED);
+                    soundManager.playExplosion(mysteryShip.getCenterX());
                     
                     mysteryShip.destroy();
                     break;
@@ -613,9 +960,10 @@ public class GamePanel extends JPanel implements ActionListener {
                 explosions.add(new Explosion(
                 player.getX() + player.getWidth() / 2,
                 player.getY() + player.getHeight() / 2,
-                new Color(0, 255, 0)  // Green explosion
+                COLOR_GREEN  // Green explosion
                 ));
-                soundManager.playPlayerExplosion();
+                particles.emitPlayerDeath(player.getCenterX(), player.getCenterY());
+                soundManager.playPlayerExplosion(player.getCenterX());
 
                 if (lives <= 0) {
                     soundManager.stopBackgroundMusic();
@@ -633,8 +981,8 @@ public class GamePanel extends JPanel implements ActionListener {
         }
 
         // Aliens bullets vs shields
-        for (Alien alien : alienFormation.getAliens()) {
-            if (!alien.isActive()) continue;
+        for (int i = 0; i < alienFormation.getAliveCount(); i++) {
+            Alien alien = alienFormation.getLivingAlien(i);
 
             for (Shield shield : shields) {
                 shield.checkAlienCollision(alien);
@@ -647,11 +995,11 @@ public class GamePanel extends JPanel implements ActionListener {
      */
     private Color getAlienColor(int row) {
         if (row == 0) {
-            return new Color(255, 0, 255);  // Purple
+            return COLOR_PURPLE;  // Purple
         } else if (row <= 2) {
-            return new Color(0, 255, 255);  // Cyan
+            return COLOR_CYAN;  // Cyan
         } else {
-            return new Color(0, 255, 0);    // Green
+            return COLOR_GREEN;    // Green
         }
     }
 
@@ -662,18 +1010,67 @@ public class GamePanel extends JPanel implements ActionListener {
      */
     @Override
     protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g;
+        frameScaler.update(getWidth(), getHeight(), settings.getScaleMode());
 
-        // Enable anti-aliasing for smoother graphics
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        // Dirty mode - the back buffer already holds the frame, copy the requested region
+        // (its rendering is timed with the game loop)
+        if (dirtyRenderer != null && gameState == GameState.PLAYING) {
+            if (frameScaler.isIdentity()) {
+                dirtyRenderer.present(g2d);
+            } else {
+                frameScaler.present(g2d, dirtyRenderer.getBackBuffer());
+            }
+            return;
+        }
 
-        // Always clear screen first with solid color
-        g2d.setColor(new Color(10, 10, 30));
-        g2d.fillRect(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+        // Window at the logical size - draw straight onto it
+        // Otherwise draw the logical frame offscreen and scale it in one blit
+        long paintStart = System.nanoTime();
+        if (frameScaler.isIdentity()) {
+            super.paintComponent(g);
+            paintFrame(g2d);
+        } else {
+            frameScaler.paint(g2d, getGraphicsConfiguration(), this::paintFrame);
+        }
+        frameWorkNanos += System.nanoTime() - paintStart;
+    }
 
-        // Always draw starfield (it's behind everything)
-        drawStarfield(g2d);
+    /**
+     * Show the game in a terminal instead of the window
+     */
+    public void setTerminalRenderer(TerminalRenderer renderer) {
+        terminalRenderer = renderer;
+        terminalFrame = new BufferedImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        terminalPixels = ((DataBufferInt) terminalFrame.getRaster().getDataBuffer()).getData();
+    }
+
+    /**
+     * Draw the frame in memory and send it to the terminal (when it can take one)
+     */
+    private void drawTerminalFrame() {
+        if (!terminalRenderer.isReady()) return;
+
+        Graphics2D g2d = terminalFrame.createGraphics();
+        paintFrame(g2d);
+        g2d.dispose();
+        terminalRenderer.draw(terminalPixels);
+    }
+
+    /**
+     * Draw one logical 800x600 frame (also used by scenes)
+     */
+    void paintFrame(Graphics2D g2d) {
+        // Anti-aliasing for smoother text and overlays (the AUTO governor may turn it off)
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, settings.isAntialiasing()
+            ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+
+        // Clear screen and draw the starfield (it's behind everything)
+        // The layer and software renderers draw it themselves
+        boolean inGame = gameState != GameState.MENU && gameState != GameState.CONTROLS && gameState != GameState.SETTINGS;
+        if (layerRenderer == null && softwareRenderer == null || !inGame) {
+            drawBackground(g2d);
+        }
 
         // Draw based on current state
         switch (gameState) {
@@ -685,30 +1082,288 @@ public class GamePanel extends JPanel implements ActionListener {
 
             case SETTINGS -> // drawSettings handles its own background clearing
                 drawSettings(g2d);
-            case PLAYING -> drawGame(g2d);
+            case PLAYING -> drawGameFrame(g2d);
 
             case PAUSED -> {
-                drawGame(g2d);
+                drawGameFrame(g2d);
                 drawPauseOverlay(g2d);
             }
 
             case GAME_OVER -> {
-                drawGame(g2d);
+                drawGameFrame(g2d);
                 drawGameOverOverlay(g2d);
             }
 
             case VICTORY -> {
-                drawGame(g2d);
+                drawGameFrame(g2d);
                 drawVictoryOverlay(g2d);
             }
         }
     }
 
+    /**
+     * Draw the game (background included when a layer or software renderer is on)
+     */
+    private void drawGameFrame(Graphics2D g2d) {
+        if (softwareRenderer != null) {
+            drawGameSoftware(softwareRenderer);
+            softwareRenderer.present(g2d);
+        } else if (layerRenderer != null) {
+            updateLayerBounds();
+            layerRenderer.render(g2d, this::drawBackground);
+        } else {
+            drawGame(g2d);
+        }
+
+        if (postProcessor != null && settings.isPostProcessingActive()) {
+            drawPostProcessing(g2d);
+        }
+    }
+
+    /**
+     * CRT look over the finished game frame
+     */
+    private void drawPostProcessing(Graphics2D g2d) {
+        postProcessor.setQuality(settings.getEffectiveQuality());
+
+        // Bullets and explosions glow
+        if (postProcessor.isActive(PostProcessor.EFFECT_BLOOM)) {
+            postProcessor.beginGlow();
+            for (Bullet bullet : bullets) {
+                if (bullet.isActive()) {
+                    postProcessor.addGlow((int) bullet.getX(), (int) bullet.getY(), bullet.getWidth(), bullet.getHeight(), bullet.getColor());
+                }
+            }
+            for (Explosion explosion : explosions) {
+                if (explosion.isActive()) {
+                    postProcessor.addGlow((int) explosion.getX(), (int) explosion.getY(), explosion.getWidth(), explosion.getHeight(), explosion.getColor());
+                }
+            }
+        }
+
+        postProcessor.apply(g2d);
+    }
+
+    /**
+     * Draw a complete playing frame into the software framebuffer
+     * Same content and order as drawBackground + drawGame
+     */
+    private void drawGameSoftware(SoftwareRenderer renderer) {
+        renderer.clear(COLOR_BACKGROUND.getRGB());
+        for (Star star : stars) {
+            renderer.drawStar(star);
+        }
+
+        renderer.drawObject(player, SpriteAtlas.PLAYER);
+        renderer.drawFormation(alienFormation);
+        if (mysteryShip != null && mysteryShip.isActive()) {
+            renderer.drawObject(mysteryShip, SpriteAtlas.MYSTERY_SHIP);
+        }
+
+        for (Shield shield : shields) {
+            renderer.drawShield(shield);
+        }
+
+        for (Bullet bullet : bullets) {
+            if (bullet.isActive()) {
+                renderer.drawBullet(bullet);
+            }
+        }
+        for (Explosion explosion : explosions) {
+            if (explosion.isActive()) {
+                renderer.drawExplosion(explosion);
+            }
+        }
+        renderer.drawParticles(particles);
+
+        drawHUD(renderer);
+        if (settings.isShowFps()) {
+            renderer.drawText(fpsFont, fpsTextBuffer, buildFpsText(), FPS_TEXT_X, FPS_TEXT_Y);
+        }
+    }
+
+    /**
+     * Tell the layer renderer which area each layer covers this frame
+     * (only that area is cleared and composited)
+     */
+    private void updateLayerBounds() {
+        layerRenderer.clearBounds();
+
+        // Ships (the formation layer can sit one pixel off a single alien's rounding)
+        includeObject(ParallelLayerRenderer.LAYER_SHIPS, player);
+        if (alienFormation.getLivingBounds(damageBounds)) {
+            layerRenderer.include(ParallelLayerRenderer.LAYER_SHIPS,
+                damageBounds.x - 1, damageBounds.y - 1, damageBounds.width + 2, damageBounds.height + 2);
+        }
+        if (mysteryShip != null && mysteryShip.isActive()) {
+            includeObject(ParallelLayerRenderer.LAYER_SHIPS, mysteryShip);
+        }
+
+        for (Shield shield : shields) {
+            layerRenderer.include(ParallelLayerRenderer.LAYER_SHIELDS, shield.getX(), shield.getY(), shield.getWidth(), shield.getHeight());
+        }
+
+        // Effects
+        for (Bullet bullet : bullets) {
+            if (bullet.isActive()) {
+                includeObject(ParallelLayerRenderer.LAYER_EFFECTS, bullet);
+            }
+        }
+        for (Explosion explosion : explosions) {
+            if (explosion.isActive()) {
+                includeObject(ParallelLayerRenderer.LAYER_EFFECTS, explosion);
+            }
+        }
+        for (int i = 0; i < particles.getCount(); i++) {
+            int size = particles.getParticleSize(i);
+            layerRenderer.include(ParallelLayerRenderer.LAYER_EFFECTS, particles.getParticleX(i), particles.getParticleY(i), size, size);
+        }
+
+        layerRenderer.include(ParallelLayerRenderer.LAYER_HUD, 0, 0, Constants.WINDOW_WIDTH, HUD_HEIGHT);
+        if (settings.isShowFps()) {
+            layerRenderer.include(ParallelLayerRenderer.LAYER_FPS, Constants.WINDOW_WIDTH - FPS_AREA_WIDTH,
+                Constants.WINDOW_HEIGHT - FPS_AREA_HEIGHT, FPS_AREA_WIDTH, FPS_AREA_HEIGHT);
+        }
+    }
+
+    /**
+     * Grow a layer's area by a game object's bounds
+     */
+    private void includeObject(int layer, GameObject object) {
+        layerRenderer.include(layer, (int) object.getX(), (int) object.getY(), object.getWidth(), object.getHeight());
+    }
+
+    /**
+     * Clear the screen with solid color and draw the starfield
+     */
+    private void drawBackground(Graphics2D g2d) {
+        g2d.setColor(COLOR_BACKGROUND);
+        g2d.fillRect(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+        drawStarfield(g2d);
+    }
+
+    /**
+     * Dirty mode painter - draws a playing frame over the damaged tiles only, without a clip
+     * Everything that moves is marked every frame, so it lies inside the damage;
+     * HUD and FPS text are marked whole when touched and skipped otherwise, shields
+     * (opaque pixels, nothing drawn over them goes undamaged) are redrawn over their damage only
+     */
+    private void drawDirtyFrame(Graphics2D g2d) {
+        dirtyRenderer.clearDirty(g2d, COLOR_BACKGROUND);
+        drawStarfield(g2d);
+        drawShips(g2d);
+        for (Shield shield : shields) {
+            if (dirtyRenderer.getDirtyBounds(shield.getX(), shield.getY(), shield.getWidth(), shield.getHeight(), damageBounds)) {
+                g2d.setClip(damageBounds);
+                shield.render(g2d);
+            }
+        }
+        g2d.setClip(null);
+        drawEffects(g2d);
+        if (dirtyRenderer.isDirty(0, 0, Constants.WINDOW_WIDTH, HUD_HEIGHT)) {
+            drawHUD(g2d);
+        }
+        if (settings.isShowFps() && dirtyRenderer.isDirty(Constants.WINDOW_WIDTH - FPS_AREA_WIDTH,
+                Constants.WINDOW_HEIGHT - FPS_AREA_HEIGHT, FPS_AREA_WIDTH, FPS_AREA_HEIGHT)) {
+            drawFpsText(g2d);
+        }
+    }
+
+    /**
+     * Dirty mode - mark what changed and redraw it into the back buffer
+     * @return number of dirty rectangles to present
+     */
+    private int renderDirtyRegions() {
+        markGameDamage();
+        return dirtyRenderer.render(this::drawDirtyFrame);
+    }
+
+    /**
+     * Mark the current bounds of everything that moves or changes
+     * (the renderer adds last frame's bounds by itself)
+     */
+    private void markGameDamage() {
+        // Stars move every frame (a 1-3 px square each; the old one is in last frame's tiles)
+        for (Star star : stars) {
+            dirtyRenderer.markDirty(star.getX(), star.getY(), star.getSize(), star.getSize());
+        }
+
+        markObject(player);
+
+        // Formation layer can sit one pixel off a single alien's rounding
+        if (alienFormation.getLivingBounds(damageBounds)) {
+            dirtyRenderer.markDirty(damageBounds.x - 1, damageBounds.y - 1, damageBounds.width + 2, damageBounds.height + 2);
+        }
+
+        if (mysteryShip != null && mysteryShip.isActive()) {
+            markObject(mysteryShip);
+        }
+
+        // Shields only when blocks were destroyed (or reset)
+        if (shieldVersions == null || shieldVersions.length != shields.length) {
+            shieldVersions = new int[shields.length];
+        }
+        for (int i = 0; i < shields.length; i++) {
+            Shield shield = shields[i];
+            if (shield.getVersion() != shieldVersions[i]) {
+                shieldVersions[i] = shield.getVersion();
+                dirtyRenderer.markDirty(shield.getX(), shield.getY(), shield.getWidth(), shield.getHeight());
+            }
+        }
+
+        for (Bullet bullet : bullets) {
+            if (bullet.isActive()) {
+                markObject(bullet);
+            }
+        }
+        for (Explosion explosion : explosions) {
+            if (explosion.isActive()) {
+                markObject(explosion);
+            }
+        }
+        for (int i = 0; i < particles.getCount(); i++) {
+            int size = particles.getParticleSize(i);
+            dirtyRenderer.markDirty(particles.getParticleX(i), particles.getParticleY(i), size, size);
+        }
+
+        // HUD and FPS text are redrawn whole - when they change or anything above touched them
+        if (score != hudScore || lives != hudLives || wave != hudWave
+                || dirtyRenderer.isDirty(0, 0, Constants.WINDOW_WIDTH, HUD_HEIGHT)) {
+            hudScore = score;
+            hudLives = lives;
+            hudWave = wave;
+            dirtyRenderer.markDirty(0, 0, Constants.WINDOW_WIDTH, HUD_HEIGHT);
+        }
+
+        if (settings.isShowFps() && (fps != hudFps || dirtyRenderer.isDirty(Constants.WINDOW_WIDTH - FPS_AREA_WIDTH,
+                Constants.WINDOW_HEIGHT - FPS_AREA_HEIGHT, FPS_AREA_WIDTH, FPS_AREA_HEIGHT))) {
+            hudFps = fps;
+            dirtyRenderer.markDirty(Constants.WINDOW_WIDTH - FPS_AREA_WIDTH, Constants.WINDOW_HEIGHT - FPS_AREA_HEIGHT,
+                FPS_AREA_WIDTH, FPS_AREA_HEIGHT);
+        }
+    }
+
+    /**
+     * Mark a game object's current bounds
+     */
+    private void markObject(GameObject object) {
+        dirtyRenderer.markDirty((int) object.getX(), (int) object.getY(), object.getWidth(), object.getHeight());
+    }
+
     /**
      * Draw only game elements (player, aliens, bullets, explosions)
      * Called ONLY during gameplay states
      */
     private void drawGameElements(Graphics2D g2d) {
+        drawShips(g2d);
+        drawShields(g2d);
+        drawEffects(g2d);
+    }
+
+    /**
+     * Draw player, aliens and mystery ship
+     */
+    private void drawShips(Graphics2D g2d) {
         // Draw player
         player.render(g2d);
 
@@ -719,12 +1374,21 @@ public class GamePanel extends JPanel implements ActionListener {
         if (mysteryShip != null && mysteryShip.isActive()) {
             mysteryShip.render(g2d);
         }
+    }
 
-        // Draw shields
+    /**
+     * Draw shields
+     */
+    private void drawShields(Graphics2D g2d) {
         for (Shield shield : shields) {
             shield.render(g2d);
         }
+    }
 
+    /**
+     * Draw bullets, explosions and particles
+     */
+    private void drawEffects(Graphics2D g2d) {
         // Draw bullets
         for (Bullet bullet : bullets) {
             if (bullet.isActive()) {
@@ -738,6 +1402,9 @@ public class GamePanel extends JPanel implements ActionListener {
                 explosion.render(g2d);
             }
         }
+
+        // Draw particles (batched by color)
+        particles.render(g2d);
     }
 
     /**
@@ -772,22 +1439,37 @@ public class GamePanel extends JPanel implements ActionListener {
 
     /**
      * Draw main menu
+     * Static content comes from a cached layer, only aliens and FPS are drawn every frame
      */
     private void drawMenu(Graphics2D g2d) {
+        // Repainted only when selection or high score change
+        long key = menuSelection | ((long) highScore << 8);
+        menuCache.draw(g2d, key, this::drawMenuStatic);
+
+        // Animated aliens
+        drawMenuAliens(g2d, Constants.WINDOW_WIDTH / 2, 260);
+
+        // FPS display
+        if (showFps) {
+            drawFpsText(g2d);
+        }
+    }
+
+    /**
+     * Draw the static part of the main menu (into the menu cache)
+     */
+    private void drawMenuStatic(Graphics2D g2d) {
         int centerX = Constants.WINDOW_WIDTH / 2;
 
         // Title
-        g2d.setColor(new Color(0, 255, 0));
-        g2d.setFont(new Font("Arial", Font.BOLD, 72));
+        g2d.setColor(COLOR_GREEN);
+        g2d.setFont(FONT_BOLD_72);
         drawCenteredString(g2d, "SPACE", 120);
 
-        g2d.setColor(new Color(255, 255, 255));
-        g2d.setFont(new Font("Arial", Font.BOLD, 72));
+        g2d.setColor(COLOR_WHITE);
+        g2d.setFont(FONT_BOLD_72);
         drawCenteredString(g2d, "INVADERS", 200);
 
-        // Animated aliens
-        drawMenuAliens(g2d, centerX, 260);
-
         // Menu options
         int menuStartY = 320;
         int menuSpacing = 45;
@@ -799,46 +1481,39 @@ public class GamePanel extends JPanel implements ActionListener {
 
             if (i == menuSelection) {
                 // Selected option - highlighted
-                g2d.setColor(new Color(0, 0, 0, 150));
+                g2d.setColor(COLOR_SHADE);
                 int boxWidth = 250;
                 int boxHeight = 40;
                 g2d.fillRect(centerX - boxWidth / 2, y - 28, boxWidth, boxHeight);
 
-                g2d.setColor(new Color(0, 255, 0));
-                g2d.setFont(new Font("Arial", Font.BOLD, 28));
+                g2d.setColor(COLOR_GREEN);
+                g2d.setFont(FONT_BOLD_28);
 
                 // Draw selection arrows
                 g2d.drawString(">", centerX - 120, y);
                 g2d.drawString("<", centerX + 100, y);
             } else {
                 // Unselected option
-                g2d.setColor(new Color(150, 150, 150));
-                g2d.setFont(new Font("Arial", Font.PLAIN, 24));
+                g2d.setColor(COLOR_INACTIVE);
+                g2d.setFont(FONT_PLAIN_24);
             }
 
             drawCenteredString(g2d, menuOptions[i], y);
         }
 
         // Instructions
-        g2d.setColor(new Color(100, 100, 100));
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+        g2d.setColor(COLOR_HINT);
+        g2d.setFont(FONT_PLAIN_16);
         drawCenteredString(g2d, "Use UP/DOWN to select, ENTER to confirm", 520);
 
         //High score
-        g2d.setColor(new Color(255, 255, 0));
-        g2d.setFont(new Font("Arial", Font.BOLD, 18));
+        g2d.setColor(COLOR_YELLOW);
+        g2d.setFont(FONT_BOLD_18);
         g2d.drawString("HIGH SCORE: " + String.format("%05d", highScore), 20, Constants.WINDOW_HEIGHT - 40);
 
-        // FPS display
-        if (showFps) {
-            g2d.setColor(Color.YELLOW);
-            g2d.setFont(new Font("Arial", Font.PLAIN, 14));
-            g2d.drawString("FPS: " + fps, Constants.WINDOW_WIDTH - 70, Constants.WINDOW_HEIGHT - 10);
-        }
-
         // Credits
-        g2d.setColor(new Color(80, 80, 80));
-        g2d.setFont(new Font("Arial", Font.PLAIN, 12));
+        g2d.setColor(COLOR_CREDITS);
+        g2d.setFont(FONT_PLAIN_12);
         drawCenteredString(g2d, "Created by JorgeCreator19", Constants.WINDOW_HEIGHT - 15);
     }
 
@@ -850,19 +1525,22 @@ public class GamePanel extends JPanel implements ActionListener {
         int alienSpacing = 60;
         int startX = centerX - (alienSpacing * 2);
 
-        Color[] colors = {
-            new Color(0, 255, 0),   // Green
-            new Color(0, 255, 255), // Cyan
-            new Color(255, 0, 255), // Purple
-            new Color(0, 255, 255), // Cyan
-            new Color(0, 255, 0)    // Green
-        };
+        // Pre-draw one sprite per color the first time
+        if (menuAlienSprites == null) {
+            menuAlienSprites = new BufferedImage[MENU_ALIEN_COLORS.length];
+            for (int i = 0; i < MENU_ALIEN_COLORS.length; i++) {
+                menuAlienSprites[i] = new BufferedImage(24, 15, BufferedImage.TYPE_INT_ARGB);
+                Graphics2D g = menuAlienSprites[i].createGraphics();
+                drawMenuAlien(g, 0, 0, MENU_ALIEN_COLORS[i]);
+                g.dispose();
+            }
+        }
 
         for (int i = 0; i < 5; i++) {
             int alienX = startX + i * alienSpacing;
             int alienY = y + (menuAlienTimer == 0 ? 0 : 5); // Bounce animation
 
-            drawMenuAlien(g2d, alienX, alienY, colors[i]);
+            g2d.drawImage(menuAlienSprites[i], alienX, alienY, null);
         }
     }
 
@@ -897,11 +1575,22 @@ public class GamePanel extends JPanel implements ActionListener {
 
     /**
      * Draw controls screen with score guide
+     * Everything but the FPS counter comes from a cached layer
      */
     private void drawControls(Graphics2D g2d) {
+        controlsCache.draw(g2d, 0, this::drawControlsStatic);
+
+        // FPS display
+        drawFps(g2d);
+    }
+
+    /**
+     * Draw the static controls screen (into the controls cache)
+     */
+    private void drawControlsStatic(Graphics2D g2d) {
         // TITLE
-        g2d.setColor(new Color(0, 255, 0));
-        g2d.setFont(new Font("Arial", Font.BOLD, 48));
+        g2d.setColor(COLOR_GREEN);
+        g2d.setFont(FONT_BOLD_48);
         drawCenteredString(g2d, "CONTROLS", 60);
 
         // CONTROLS BOX (Left side)
@@ -911,16 +1600,16 @@ public class GamePanel extends JPanel implements ActionListener {
         int controlsBoxHeight = 280;
 
         // Box background
-        g2d.setColor(new Color(20, 20, 40));
+        g2d.setColor(COLOR_BOX);
         g2d.fillRect(controlsBoxX, controlsBoxY, controlsBoxWidth, controlsBoxHeight);
 
         // Box border
-        g2d.setColor(new Color(0, 255, 0));
+        g2d.setColor(COLOR_GREEN);
         g2d.drawRect(controlsBoxX, controlsBoxY, controlsBoxWidth, controlsBoxHeight);
 
         // Controls title
-        g2d.setColor(new Color(255, 255, 0));
-        g2d.setFont(new Font("Arial", Font.BOLD, 20));
+        g2d.setColor(COLOR_YELLOW);
+        g2d.setFont(FONT_BOLD_20);
         g2d.drawString("KEYBOARD", controlsBoxX + 20, controlsBoxY + 35);
 
         // Controls content
@@ -930,31 +1619,31 @@ public class GamePanel extends JPanel implements ActionListener {
         int lineHeight = 35;
 
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+        g2d.setFont(FONT_PLAIN_16);
 
         // Movement
         g2d.drawString("Move Left", leftCol, startY);
-        g2d.setColor(new Color(0, 255, 0));
+        g2d.setColor(COLOR_GREEN);
         g2d.drawString("A  /  ←", rightCol, startY);
 
         g2d.setColor(Color.WHITE);
         g2d.drawString("Move Right", leftCol, startY + lineHeight);
-        g2d.setColor(new Color(0, 255, 0));
+        g2d.setColor(COLOR_GREEN);
         g2d.drawString("D  /  →", rightCol, startY + lineHeight);
 
         g2d.setColor(Color.WHITE);
         g2d.drawString("Shoot", leftCol, startY + lineHeight * 2);
-        g2d.setColor(new Color(0, 255, 0));
+        g2d.setColor(COLOR_GREEN);
         g2d.drawString("SPACE", rightCol, startY + lineHeight * 2);
 
         g2d.setColor(Color.WHITE);
         g2d.drawString("Pause Game", leftCol, startY + lineHeight * 3);
-        g2d.setColor(new Color(0, 255, 0));
+        g2d.setColor(COLOR_GREEN);
         g2d.drawString("P", rightCol + 30, startY + lineHeight * 3);
 
         g2d.setColor(Color.WHITE);
         g2d.drawString("Back to Menu", leftCol, startY + lineHeight * 4);
-        g2d.setColor(new Color(0, 255, 0));
+        g2d.setColor(COLOR_GREEN);
         g2d.drawString("ESC", rightCol + 20, startY + lineHeight * 4);
 
         // SCORE GUIDE BOX (Right side)
@@ -964,16 +1653,16 @@ public class GamePanel extends JPanel implements ActionListener {
         int scoreBoxHeight = 280;
 
         // Box background
-        g2d.setColor(new Color(20, 20, 40));
+        g2d.setColor(COLOR_BOX);
         g2d.fillRect(scoreBoxX, scoreBoxY, scoreBoxWidth, scoreBoxHeight);
 
         // Box border
-        g2d.setColor(new Color(0, 255, 0));
+        g2d.setColor(COLOR_GREEN);
         g2d.drawRect(scoreBoxX, scoreBoxY, scoreBoxWidth, scoreBoxHeight);
 
         // Score title
-        g2d.setColor(new Color(255, 255, 0));
-        g2d.setFont(new Font("Arial", Font.BOLD, 20));
+        g2d.setColor(COLOR_YELLOW);
+        g2d.setFont(FONT_BOLD_20);
         g2d.drawString("SCORE GUIDE", scoreBoxX + 20, scoreBoxY + 35);
 
         // Score content with pixel aliens
@@ -983,43 +1672,43 @@ public class GamePanel extends JPanel implements ActionListener {
         int alienSpacing = 50;
 
         // Mystery Ship (Row 0)
-        g2d.setColor(new Color(255, 0, 0));
+        g2d.setColor(COLOR_RED);
         drawMiniMysteryShip(g2d, alienX, alienStartY - 10);
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+        g2d.setFont(FONT_PLAIN_16);
         g2d.drawString("Mystery Ship", alienX + 50, alienStartY + 5);
-        g2d.setColor(new Color(255, 255, 0));
-        g2d.setFont(new Font("Arial", Font.BOLD, 18));
+        g2d.setColor(COLOR_YELLOW);
+        g2d.setFont(FONT_BOLD_18);
         g2d.drawString("? ? ?", pointsX, alienStartY + 5);
 
         // Top Alien - Purple (Row 1)
-        g2d.setColor(new Color(255, 0, 255));
+        g2d.setColor(COLOR_PURPLE);
         drawMiniAlien(g2d, alienX, alienStartY + alienSpacing - 10, 0);
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+        g2d.setFont(FONT_PLAIN_16);
         g2d.drawString("Octopus", alienX + 50, alienStartY + alienSpacing + 5);
-        g2d.setColor(new Color(255, 0, 255));
-        g2d.setFont(new Font("Arial", Font.BOLD, 18));
+        g2d.setColor(COLOR_PURPLE);
+        g2d.setFont(FONT_BOLD_18);
         g2d.drawString(Constants.SCORE_ROW_3 + " pts", pointsX, alienStartY + alienSpacing + 5);
 
         // Middle Alien - Cyan (Row 2)
-        g2d.setColor(new Color(0, 255, 255));
+        g2d.setColor(COLOR_CYAN);
         drawMiniAlien(g2d, alienX, alienStartY + alienSpacing * 2 - 10, 1);
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+        g2d.setFont(FONT_PLAIN_16);
         g2d.drawString("Crab", alienX + 50, alienStartY + alienSpacing * 2 + 5);
-        g2d.setColor(new Color(0, 255, 255));
-        g2d.setFont(new Font("Arial", Font.BOLD, 18));
+        g2d.setColor(COLOR_CYAN);
+        g2d.setFont(FONT_BOLD_18);
         g2d.drawString(Constants.SCORE_ROW_2 + " pts", pointsX, alienStartY + alienSpacing * 2 + 5);
 
         // Bottom Alien - Green (Row 3)
-        g2d.setColor(new Color(0, 255, 0));
+        g2d.setColor(COLOR_GREEN);
         drawMiniAlien(g2d, alienX, alienStartY + alienSpacing * 3 - 10, 2);
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+        g2d.setFont(FONT_PLAIN_16);
         g2d.drawString("Squid", alienX + 50, alienStartY + alienSpacing * 3 + 5);
-        g2d.setColor(new Color(0, 255, 0));
-        g2d.setFont(new Font("Arial", Font.BOLD, 18));
+        g2d.setColor(COLOR_GREEN);
+        g2d.setFont(FONT_BOLD_18);
         g2d.drawString(Constants.SCORE_ROW_1 + " pts", pointsX, alienStartY + alienSpacing * 3 + 5);
 
         // TIPS BOX (Bottom)
@@ -1029,36 +1718,29 @@ public class GamePanel extends JPanel implements ActionListener {
         int tipsBoxHeight = 120;
 
         // Box background
-        g2d.setColor(new Color(20, 20, 40));
+        g2d.setColor(COLOR_BOX);
         g2d.fillRect(tipsBoxX, tipsBoxY, tipsBoxWidth, tipsBoxHeight);
 
         // Box border
-        g2d.setColor(new Color(0, 255, 0));
+        g2d.setColor(COLOR_GREEN);
         g2d.drawRect(tipsBoxX, tipsBoxY, tipsBoxWidth, tipsBoxHeight);
 
         // Tips title
-        g2d.setColor(new Color(255, 255, 0));
-        g2d.setFont(new Font("Arial", Font.BOLD, 20));
+        g2d.setColor(COLOR_YELLOW);
+        g2d.setFont(FONT_BOLD_20);
         g2d.drawString("TIPS", tipsBoxX + 20, tipsBoxY + 30);
 
         // Tips content
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 14));
+        g2d.setFont(FONT_PLAIN_14);
         g2d.drawString("• Shoot the Mystery Ship for bonus points (100, 150, 200, or 300)!", tipsBoxX + 20, tipsBoxY + 55);
         g2d.drawString("• Aliens speed up as you destroy them - be careful when few remain!", tipsBoxX + 20, tipsBoxY + 75);
         g2d.drawString("• Top row aliens are worth more points but harder to hit.", tipsBoxX + 20, tipsBoxY + 95);
 
         // BACK INSTRUCTION
-        g2d.setColor(new Color(100, 100, 100));
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+        g2d.setColor(COLOR_HINT);
+        g2d.setFont(FONT_PLAIN_16);
         drawCenteredString(g2d, "Press ENTER or ESC to go back", 555);
-
-        // FPS display
-        if (settings.isShowFps()) {
-            g2d.setColor(Color.YELLOW);
-            g2d.setFont(new Font("Arial", Font.PLAIN, 14));
-            g2d.drawString("FPS: " + fps, Constants.WINDOW_WIDTH - 70, Constants.WINDOW_HEIGHT - 10);
-        }
     }
 
     /**
@@ -1143,18 +1825,37 @@ public class GamePanel extends JPanel implements ActionListener {
 
     /**
      * Draw settings screen
+     * Static content comes from a cached layer, repainted when a setting or the selection changes
      */
     private void drawSettings(Graphics2D g2d) {
-        // Fill entire screen with solid background (hides everything behind)
-        g2d.setColor(new Color(10, 10, 30));
-        g2d.fillRect(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+        settingsCache.draw(g2d, getSettingsKey(), this::drawSettingsStatic);
 
-        // Redraw starfield on top of solid background
-        drawStarfield(g2d);
+        // FPS
+        drawFps(g2d);
+    }
 
+    /**
+     * Pack everything the settings screen shows into one key
+     */
+    private long getSettingsKey() {
+        long key = settingsSelection;
+        key |= (long) Math.round(soundManager.getMusicVolume() * 100) << 4;
+        key |= (long) Math.round(soundManager.getSfxVolume() * 100) << 12;
+        key |= (long) settings.getGraphicsQuality() << 20;
+        key |= (long) settings.getFpsOption() << 24;
+        key |= (settings.isShowFps() ? 1L : 0L) << 28;
+        key |= (long) settings.getScaleMode() << 29;
+        key |= (settings.isPostProcessing() ? 1L : 0L) << 30;
+        return key;
+    }
+
+    /**
+     * Draw the static part of the settings screen (into the settings cache)
+     */
+    private void drawSettingsStatic(Graphics2D g2d) {
         // Title
-        g2d.setColor(new Color(0, 255, 0));
-        g2d.setFont(new Font("Arial", Font.BOLD, 48));
+        g2d.setColor(COLOR_GREEN);
+        g2d.setFont(FONT_BOLD_48);
         drawCenteredString(g2d, "SETTINGS", 80);
 
         // Settings box
@@ -1164,16 +1865,16 @@ public class GamePanel extends JPanel implements ActionListener {
         int boxHeight = 390;
 
         // Box background
-        g2d.setColor(new Color(20, 20, 40));
+        g2d.setColor(COLOR_BOX);
         g2d.fillRect(boxX, boxY, boxWidth, boxHeight);
         
         // Box border
-        g2d.setColor(new Color(0, 255, 0));
+        g2d.setColor(COLOR_GREEN);
         g2d.drawRect(boxX, boxY, boxWidth, boxHeight);
 
         // Settings options
         int startY = boxY + 60;
-        int lineHeight = 60;
+        int lineHeight = 44;
         int leftCol = boxX + 40;
         int rightCol = boxX + boxWidth - 200;
 
@@ -1183,6 +1884,8 @@ public class GamePanel extends JPanel implements ActionListener {
             "Graphics Quality",
             "FPS Limit",
             "Show FPS",
+            "Window Scale",
+            "CRT Effects",
             "BACK TO MENU"
         };
 
@@ -1191,13 +1894,13 @@ public class GamePanel extends JPanel implements ActionListener {
 
             // Highlight selected
             if (i == settingsSelection) {
-                g2d.setColor(new Color(0, 255, 0, 50));
+                g2d.setColor(COLOR_HIGHLIGHT);
                 g2d.fillRect(boxX + 10, y - 25, boxWidth - 20, 40);
-                g2d.setColor(new Color(0, 255, 0));
-                g2d.setFont(new Font("Arial", Font.BOLD, 22));
+                g2d.setColor(COLOR_GREEN);
+                g2d.setFont(FONT_BOLD_22);
             } else {
                 g2d.setColor(Color.WHITE);
-                g2d.setFont(new Font("Arial", Font.PLAIN, 20));
+                g2d.setFont(FONT_PLAIN_20);
             }
 
             // Draw setting name
@@ -1205,9 +1908,9 @@ public class GamePanel extends JPanel implements ActionListener {
 
             // Draw setting value
             if (i == settingsSelection) {
-                g2d.setColor(new Color(255, 255, 0));
+                g2d.setColor(COLOR_YELLOW);
             } else {
-                g2d.setColor(new Color(150, 150, 150));
+                g2d.setColor(COLOR_INACTIVE);
             }
 
             switch (i) {
@@ -1216,21 +1919,16 @@ public class GamePanel extends JPanel implements ActionListener {
                 case SETTINGS_GRAPHICS -> g2d.drawString("< " + settings.getGraphicsQualityName() + " >", rightCol, y);
                 case SETTINGS_FPS_LIMIT -> g2d.drawString("<" + settings.getFpsOptionName() + ">", rightCol, y);
                 case SETTINGS_SHOW_FPS -> g2d.drawString(settings.isShowFps() ? "ON" : "OFF", rightCol + 50, y);
+                case SETTINGS_SCALE -> g2d.drawString("< " + settings.getScaleModeName() + " >", rightCol, y);
+                case SETTINGS_CRT -> g2d.drawString(settings.isPostProcessing() ? "ON" : "OFF", rightCol + 50, y);
                 case SETTINGS_BACK -> {} // No value for back button
             }
-
-            // Instructions
-            g2d.setColor(new Color(100, 100, 100));
-            g2d.setFont(new Font("Arial", Font.PLAIN, 16));
-            drawCenteredString(g2d, "UP/DOWN to select, LEFT/RIGHT to adjust, ENTER to confirm", 560);
-        
-            // FPS
-            if (settings.isShowFps()) {
-                g2d.setColor(Color.YELLOW);
-                g2d.setFont(new Font("Arial", Font.PLAIN, 14));
-                g2d.drawString("FPS: " + fps, Constants.WINDOW_WIDTH - 70, Constants.WINDOW_HEIGHT - 10);
-            }
         }
+
+        // Instructions
+        g2d.setColor(COLOR_HINT);
+        g2d.setFont(FONT_PLAIN_16);
+        drawCenteredString(g2d, "UP/DOWN to select, LEFT/RIGHT to adjust, ENTER to confirm", 560);
     }
 
     /**
@@ -1242,20 +1940,20 @@ public class GamePanel extends JPanel implements ActionListener {
         int fillWidth = (int) (barWidth * volume);
         
         // Background
-        g2d.setColor(new Color(50, 50, 50));
+        g2d.setColor(COLOR_BAR_BACKGROUND);
         g2d.fillRect(x, y, barWidth, barHeight);
         
         // Fill
-        g2d.setColor(new Color(0, 255, 0));
+        g2d.setColor(COLOR_GREEN);
         g2d.fillRect(x, y, fillWidth, barHeight);
         
         // Border
-        g2d.setColor(new Color(100, 100, 100));
+        g2d.setColor(COLOR_HINT);
         g2d.drawRect(x, y, barWidth, barHeight);
         
         // Percentage text
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 14));
+        g2d.setFont(FONT_PLAIN_14);
         g2d.drawString((int)(volume * 100) + "%", x + barWidth + 10, y + 15);
     }
 
@@ -1277,38 +1975,75 @@ public class GamePanel extends JPanel implements ActionListener {
 
     /**
      * Draw heads-up display
+     * Text is built in a reusable char buffer and drawn from the glyph atlas
      */
     private void drawHUD(Graphics2D g2d) {
-        g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 20));
-
-        // Score (left)
-        g2d.drawString("Score: " + score, 20, 30);
+        for (int part = 0; part < HUD_PARTS; part++) {
+            int length = buildHudText(part);
+            hudFont.drawChars(g2d, textBuffer, length, getHudTextX(part, length), HUD_BASELINE);
+        }
+    }
 
-        // Wave (center)
-        drawCenteredString(g2d, "Wave " + wave, 30);
+    /**
+     * Draw heads-up display into the software framebuffer
+     */
+    private void drawHUD(SoftwareRenderer renderer) {
+        for (int part = 0; part < HUD_PARTS; part++) {
+            int length = buildHudText(part);
+            renderer.drawText(hudFont, textBuffer, length, getHudTextX(part, length), HUD_BASELINE);
+        }
+    }
 
-        // Lives
-        String livesText = "Lives: ";
-        for (int i = 0; i < lives; i++) {
-            livesText += "♥ ";
+    /**
+     * Write one HUD text into the text buffer
+     * @param part 0 = score (left), 1 = wave (center), 2 = lives (right)
+     * @return text length
+     */
+    private int buildHudText(int part) {
+        switch (part) {
+            case 0 -> {
+                int length = BitmapFont.append(textBuffer, 0, "Score: ");
+                return BitmapFont.append(textBuffer, length, score);
+            }
+            case 1 -> {
+                int length = BitmapFont.append(textBuffer, 0, "Wave ");
+                return BitmapFont.append(textBuffer, length, wave);
+            }
+            default -> {
+                int length = BitmapFont.append(textBuffer, 0, "Lives: ");
+                for (int i = 0; i < lives && length < textBuffer.length - 1; i++) {
+                    textBuffer[length++] = '♥';
+                    textBuffer[length++] = ' ';
+                }
+                return length;
+            }
         }
-        g2d.drawString(livesText, Constants.WINDOW_WIDTH - 150, 30);
+    }
+
+    /**
+     * X position of one HUD text
+     */
+    private int getHudTextX(int part, int length) {
+        return switch (part) {
+            case 0 -> 20;
+            case 1 -> (Constants.WINDOW_WIDTH - hudFont.charsWidth(textBuffer, length)) / 2;
+            default -> Constants.WINDOW_WIDTH - 150;
+        };
     }
 
     /**
      * Draw pause overlay
      */
     private void drawPauseOverlay(Graphics2D g2d) {
-        g2d.setColor(new Color(0, 0, 0, 150));
+        g2d.setColor(COLOR_SHADE);
         g2d.fillRect(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
 
         // Pause text
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 48));
+        g2d.setFont(FONT_BOLD_48);
         drawCenteredString(g2d, "PAUSED", Constants.WINDOW_HEIGHT / 2 - 30);
 
-        g2d.setFont(new Font("Arial", Font.PLAIN, 24));
+        g2d.setFont(FONT_PLAIN_24);
         drawCenteredString(g2d, "Press P to Resume", Constants.WINDOW_HEIGHT / 2 + 30);
         drawCenteredString(g2d, "Press ESC for Menu", Constants.WINDOW_HEIGHT / 2 + 70);
     }
@@ -1318,34 +2053,34 @@ public class GamePanel extends JPanel implements ActionListener {
      */
     private void drawGameOverOverlay(Graphics2D g2d) {
         // Dark red background
-        g2d.setColor(new Color(100, 0, 0, 150));
+        g2d.setColor(COLOR_GAME_OVER_SHADE);
         g2d.fillRect(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
     
         // Game over text
         g2d.setColor(Color.RED);
-        g2d.setFont(new Font("Arial", Font.BOLD, 60));
+        g2d.setFont(FONT_BOLD_60);
         drawCenteredString(g2d, "GAME OVER", Constants.WINDOW_HEIGHT / 2 - 80);
     
         // Check if this is a new high score
         if (score >= highScore && score > 0) {
-            g2d.setColor(new Color(255, 255, 0));
-            g2d.setFont(new Font("Arial", Font.BOLD, 28));
+            g2d.setColor(COLOR_YELLOW);
+            g2d.setFont(FONT_BOLD_28);
             drawCenteredString(g2d, "NEW HIGH SCORE!", Constants.WINDOW_HEIGHT / 2 - 30);
         }
     
         // Final score
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 30));
+        g2d.setFont(FONT_BOLD_30);
         drawCenteredString(g2d, "Final Score: " + score, Constants.WINDOW_HEIGHT / 2 + 20);
     
         // High score
-        g2d.setColor(new Color(255, 255, 0));
-        g2d.setFont(new Font("Arial", Font.PLAIN, 22));
+        g2d.setColor(COLOR_YELLOW);
+        g2d.setFont(FONT_PLAIN_22);
         drawCenteredString(g2d, "High Score: " + highScore, Constants.WINDOW_HEIGHT / 2 + 60);
     
         // Instructions
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 24));
+        g2d.setFont(FONT_PLAIN_24);
         drawCenteredString(g2d, "Press ENTER to Restart", Constants.WINDOW_HEIGHT / 2 + 110);
         drawCenteredString(g2d, "Press ESC for Menu", Constants.WINDOW_HEIGHT / 2 + 150);
     }
@@ -1355,17 +2090,17 @@ public class GamePanel extends JPanel implements ActionListener {
      */
     private void drawVictoryOverlay(Graphics2D g2d) {
         // Dark green background
-        g2d.setColor(new Color(0, 100, 0, 150));
+        g2d.setColor(COLOR_VICTORY_SHADE);
         g2d.fillRect(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
 
         // Victory text
         g2d.setColor(Color.GREEN);
-        g2d.setFont(new Font("Arial", Font.BOLD, 48));
+        g2d.setFont(FONT_BOLD_48);
         drawCenteredString(g2d, "WAVE " + wave + " COMPLETE!", Constants.WINDOW_HEIGHT / 2 - 30);
 
         // Instructions
         g2d.setColor(Color.GREEN);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 24));
+        g2d.setFont(FONT_PLAIN_24);
         drawCenteredString(g2d, "Press ENTER for Next Wave", Constants.WINDOW_HEIGHT / 2 + 30);
     }
 
@@ -1383,9 +2118,23 @@ public class GamePanel extends JPanel implements ActionListener {
      */
     private void drawFps(Graphics2D g2d) {
         if (settings.isShowFps()) {
-            g2d.setColor(Color.YELLOW);
-            g2d.setFont(new Font("Arial", Font.PLAIN, 14));
-            g2d.drawString("FPS: " + fps, Constants.WINDOW_WIDTH - 70, Constants.WINDOW_HEIGHT - 10);
+            drawFpsText(g2d);
         }
     }
+
+    /**
+     * Draw the FPS text from the glyph atlas
+     */
+    private void drawFpsText(Graphics2D g2d) {
+        fpsFont.drawChars(g2d, fpsTextBuffer, buildFpsText(), FPS_TEXT_X, FPS_TEXT_Y);
+    }
+
+    /**
+     * Write the FPS text into its buffer
+     * @return text length
+     */
+    private int buildFpsText() {
+        int length = BitmapFont.append(fpsTextBuffer, 0, "FPS: ");
+        return BitmapFont.append(fpsTextBuffer, length, fps);
+    }
 }
\ No newline at end of file
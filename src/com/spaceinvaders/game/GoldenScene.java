@@ -0,0 +1,131 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.utils.Constants;
+import com.spaceinvaders.utils.Settings;
+import java.awt.Graphics2D;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+
+/**
+ * Golden scene - a game frame reached by playing a real GamePanel
+ * The panel runs without its timer: every frame is a fixed 1/60 s step, keys
+ * are sent as key events and all randomness is seeded, so a scene comes out
+ * the same on every run (see bench.GoldenFrameSuite)
+ */
+public class GoldenScene {
+
+    public static final String[] NAMES = {"menu", "formation", "late_wave", "explosions", "shields"};
+
+    private static final long SEED = 1978;
+    private static final int HIGH_SCORE = 4200;   // Shown instead of the saved one
+    private static final double FRAME = Constants.SIMULATION_TICK;
+
+    private final GamePanel panel;
+
+    private GoldenScene() {
+        Settings.getInstance().setSimulationSeed(SEED);
+        panel = new GamePanel(false);
+        panel.setHighScore(HIGH_SCORE);
+    }
+
+    /**
+     * Play a panel up to a named scene
+     * Uses the current settings (render mode, quality)
+     */
+    public static GoldenScene create(String name) {
+        GoldenScene scene = new GoldenScene();
+        switch (name) {
+            case "menu" -> scene.run(45);
+            case "formation" -> {
+                scene.tap(KeyEvent.VK_ENTER);
+                scene.run(30);
+            }
+            case "late_wave" -> {
+                scene.tap(KeyEvent.VK_ENTER);
+                scene.panel.skipToWave(6);
+                scene.run(240);   // Marching down, shooting back
+            }
+            case "explosions" -> {
+                // Sweep under the formation firing, then a burst of hits a few frames apart
+                scene.tap(KeyEvent.VK_ENTER);
+                scene.hold(KeyEvent.VK_SPACE);
+                scene.hold(KeyEvent.VK_LEFT);
+                scene.run(45);
+                scene.release(KeyEvent.VK_LEFT);
+                scene.hold(KeyEvent.VK_RIGHT);
+                scene.run(60);
+                for (int hit = 0; hit < 12; hit++) {
+                    scene.panel.hitAlien(hit * 3);
+                    scene.run(2);
+                }
+            }
+            case "shields" -> {
+                // Stop under each shield and shoot it from below, then let the aliens fire at them
+                scene.tap(KeyEvent.VK_ENTER);
+                scene.hold(KeyEvent.VK_LEFT);
+                scene.run(38);
+                scene.release(KeyEvent.VK_LEFT);
+                for (int shield = 0; shield < Constants.SHIELD_COUNT; shield++) {
+                    scene.hold(KeyEvent.VK_SPACE);
+                    scene.run(60);
+                    scene.release(KeyEvent.VK_SPACE);
+                    scene.hold(KeyEvent.VK_RIGHT);
+                    scene.run(25);   // To the next shield
+                    scene.release(KeyEvent.VK_RIGHT);
+                }
+                scene.run(300);
+            }
+            default -> throw new IllegalArgumentException("Unknown scene: " + name);
+        }
+        return scene;
+    }
+
+    /**
+     * Draw the scene's frame as the window would show it (the panel's own drawing code)
+     */
+    public void draw(Graphics2D g) {
+        panel.paintShownFrame(g);
+    }
+
+    /**
+     * Paint the next frame as the game loop would (what the suite times)
+     * In dirty mode only the damage is redrawn and copied, over the frame already in g
+     */
+    public void drawLoopFrame(Graphics2D g) {
+        panel.paintLoopFrame(g);
+    }
+
+    private void run(int frames) {
+        for (int i = 0; i < frames; i++) {
+            panel.step(FRAME);
+        }
+    }
+
+    /**
+     * Press and release a key, with one frame in between to act on it
+     */
+    private void tap(int keyCode) {
+        hold(keyCode);
+        run(1);
+        release(keyCode);
+    }
+
+    private void hold(int keyCode) {
+        send(KeyEvent.KEY_PRESSED, keyCode);
+    }
+
+    private void release(int keyCode) {
+        send(KeyEvent.KEY_RELEASED, keyCode);
+    }
+
+    private void send(int id, int keyCode) {
+        KeyEvent event = new KeyEvent(panel, id, 0, 0, keyCode, KeyEvent.CHAR_UNDEFINED);
+        for (KeyListener listener : panel.getKeyListeners()) {
+            if (id == KeyEvent.KEY_PRESSED) {
+                listener.keyPressed(event);
+            } else {
+                listener.keyReleased(event);
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@ public class InputHandler implements KeyListener {
     private boolean pausePressed;
     private boolean enterPressed;
     private boolean escapePressed;
+    private boolean fullScreenPressed;
 
     /**
      * Constructor - initialize all keys to not pressed
@@ -32,6 +33,7 @@ public class InputHandler implements KeyListener {
         pausePressed = false;
         enterPressed = false;
         escapePressed = false;
+        fullScreenPressed = false;
     }
 
     /**
@@ -80,6 +82,11 @@ public class InputHandler implements KeyListener {
         if (key == KeyEvent.VK_ESCAPE) {
             escapePressed = true;
         }
+
+        // F11 to toggle full screen
+        if (key == KeyEvent.VK_F11) {
+            fullScreenPressed = true;
+        }
     }
 
     /**
@@ -130,6 +137,11 @@ public class InputHandler implements KeyListener {
         if (key == KeyEvent.VK_ESCAPE) {
             escapePressed = false;
         }
+
+        // F11 to toggle full screen
+        if (key == KeyEvent.VK_F11) {
+            fullScreenPressed = false;
+        }
     }
 
     /**
@@ -181,6 +193,17 @@ public class InputHandler implements KeyListener {
         return false;
     }
 
+    /**
+     * Check and consume full screen toggle press
+     */
+    public boolean consumeFullScreen() {
+        if (fullScreenPressed) {
+            fullScreenPressed = false;
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Check and consume up press
      */
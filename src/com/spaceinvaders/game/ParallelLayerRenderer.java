@@ -0,0 +1,197 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.utils.Constants;
+import com.spaceinvaders.utils.Settings;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Parallel layer renderer - independent layers are painted at the same time
+ * Each layer (ships, shields, effects, HUD...) has its own transparent image and
+ * is painted by a small worker pool while the EDT paints the background
+ * The EDT then only composites the layers, in order, over the background
+ * Layers only clear and composite the area their content covers this frame
+ * All renderers share one worker pool (scenes build a renderer per panel)
+ */
+public class ParallelLayerRenderer {
+
+    // Paint order of the layers (composited bottom to top)
+    public static final int LAYER_SHIPS = 0;    // Player, formation, mystery ship
+    public static final int LAYER_SHIELDS = 1;
+    public static final int LAYER_EFFECTS = 2;  // Bullets, explosions, particles
+    public static final int LAYER_HUD = 3;
+    public static final int LAYER_FPS = 4;
+    public static final int LAYER_COUNT = 5;
+
+    // Worker threads shared by every renderer (daemon, so they never keep the game alive)
+    private static ExecutorService workers;
+
+    // One transparent image per layer
+    private final BufferedImage[] images = new BufferedImage[LAYER_COUNT];
+
+    // Area covered this frame (set before render) and last frame (to clear)
+    private final Rectangle[] bounds = new Rectangle[LAYER_COUNT];
+    private final Rectangle[] drawn = new Rectangle[LAYER_COUNT];
+
+    // Painter of each layer
+    private final List<Consumer<Graphics2D>> painters = new ArrayList<>(Collections.nCopies(LAYER_COUNT, null));
+    private final Future<?>[] pending = new Future<?>[LAYER_COUNT];
+    private final Runnable[] tasks = new Runnable[LAYER_COUNT];
+
+    /**
+     * Constructor - creates the layer images (and the worker pool, the first time)
+     */
+    public ParallelLayerRenderer() {
+        startWorkers();
+
+        for (int i = 0; i < LAYER_COUNT; i++) {
+            images[i] = new BufferedImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+            bounds[i] = new Rectangle();
+            drawn[i] = new Rectangle();
+
+            int layer = i;
+            tasks[i] = () -> paintLayer(layer);
+        }
+    }
+
+    /**
+     * Create the shared worker pool if it does not exist yet
+     */
+    private static synchronized void startWorkers() {
+        if (workers != null) return;
+
+        int threads = Math.max(1, Math.min(LAYER_COUNT, Runtime.getRuntime().availableProcessors() - 1));
+        workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "layer-renderer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        System.out.println("Layer renderer: " + threads + " worker thread(s)");
+    }
+
+    /**
+     * Is parallel rendering worth it on this machine? (needs more than one core)
+     */
+    public static boolean isSupported() { return Runtime.getRuntime().availableProcessors() > 1; }
+
+    /**
+     * Set the painter of a layer
+     */
+    public void setPainter(int layer, Consumer<Graphics2D> painter) { painters.set(layer, painter); }
+
+    /**
+     * Start a new frame - every layer's area is empty until include() is called
+     */
+    public void clearBounds() {
+        for (Rectangle r : bounds) {
+            r.setBounds(0, 0, 0, 0);
+        }
+    }
+
+    /**
+     * Grow a layer's area to include a region (must cover everything its painter draws)
+     */
+    public void include(int layer, int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) return;
+
+        Rectangle r = bounds[layer];
+        if (r.isEmpty()) {
+            r.setBounds(x, y, width, height);
+        } else {
+            int left = Math.min(r.x, x);
+            int top = Math.min(r.y, y);
+            int right = Math.max(r.x + r.width, x + width);
+            int bottom = Math.max(r.y + r.height, y + height);
+            r.setBounds(left, top, right - left, bottom - top);
+        }
+    }
+
+    /**
+     * Paint a frame: layers on the workers, background on the calling thread,
+     * then composite everything onto the target
+     * Game state must not change until this returns
+     * Always waits for every layer (they draw into shared images), even when
+     * interrupted - the interrupt flag is set again afterwards
+     * @param background paints the opaque background straight onto the target
+     */
+    public void render(Graphics2D target, Consumer<Graphics2D> background) {
+        for (int i = 0; i < LAYER_COUNT; i++) {
+            pending[i] = bounds[i].isEmpty() && drawn[i].isEmpty() ? null : workers.submit(tasks[i]);
+        }
+
+        // Background meanwhile
+        background.accept(target);
+
+        // Wait for the layers and composite them in order
+        boolean interrupted = false;
+        RuntimeException failure = null;
+        for (int i = 0; i < LAYER_COUNT; i++) {
+            if (pending[i] == null) continue;
+
+            while (true) {
+                try {
+                    pending[i].get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;   // Keep waiting, the worker is still drawing
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = new RuntimeException("Layer " + i + " failed to render", e.getCause());
+                    }
+                    break;
+                }
+            }
+            pending[i] = null;
+
+            Rectangle r = bounds[i];
+            if (failure == null && !r.isEmpty()) {
+                target.drawImage(images[i], r.x, r.y, r.x + r.width, r.y + r.height,
+                    r.x, r.y, r.x + r.width, r.y + r.height, null);
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Paint one layer (worker thread)
+     * Clears what was drawn last frame, then paints clipped to this frame's area
+     */
+    private void paintLayer(int layer) {
+        Graphics2D g = images[layer].createGraphics();
+
+        Rectangle old = drawn[layer];
+        if (!old.isEmpty()) {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(old.x, old.y, old.width, old.height);
+            g.setComposite(AlphaComposite.SrcOver);
+        }
+
+        Rectangle r = bounds[layer];
+        if (!r.isEmpty()) {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, Settings.getInstance().isAntialiasing()
+                ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+            g.clip(r);
+            painters.get(layer).accept(g);
+        }
+        g.dispose();
+
+        old.setBounds(r);
+    }
+}
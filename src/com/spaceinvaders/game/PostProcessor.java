@@ -0,0 +1,314 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.utils.Constants;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RadialGradientPaint;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * Post-processor - arcade CRT look drawn over the finished game frame
+ * Scanlines and vignette are static overlays, built once and blitted
+ * Bloom draws the glow sources (bullets, explosions) into a buffer at a
+ * quarter of the resolution, blurs it there and stretches it over the frame
+ * Every effect has a cost budget per quality level - an effect that keeps
+ * going over it is dropped until the quality or the setting changes
+ */
+public class PostProcessor {
+
+    // Effects, in the order they are applied
+    public static final int EFFECT_BLOOM = 0;
+    public static final int EFFECT_SCANLINES = 1;
+    public static final int EFFECT_VIGNETTE = 2;
+    public static final int EFFECT_COUNT = 3;
+    private static final String[] EFFECT_NAMES = {"bloom", "scanlines", "vignette"};
+
+    // Cost budget per effect in nanoseconds [quality][effect] (0 = never on)
+    private static final long[][] BUDGET_NANOS = {
+        {2_000_000, 800_000, 800_000},  // High
+        {1_000_000, 500_000, 500_000},  // Medium
+        {0, 300_000, 300_000}           // Low - no bloom
+    };
+
+    // Cost is averaged (frames vary), and the first frames are not judged (JIT, image uploads)
+    private static final double SMOOTHING = 0.05;
+    private static final int WARMUP_FRAMES = 60;
+
+    // Scanlines - every other row darkened
+    private static final int SCANLINE_ALPHA = 70;
+
+    // Vignette - corners darkened, center untouched
+    private static final float VIGNETTE_CLEAR = 0.55f;   // Share of the radius left clear
+    private static final int VIGNETTE_ALPHA = 150;
+
+    // Bloom - buffer scale, blur radius (in buffer pixels) and strength
+    private static final int GLOW_SCALE = 4;
+    private static final int GLOW_WIDTH = Constants.WINDOW_WIDTH / GLOW_SCALE;
+    private static final int GLOW_HEIGHT = Constants.WINDOW_HEIGHT / GLOW_SCALE;
+    private static final int GLOW_RADIUS = 2;
+    private static final float GLOW_STRENGTH = 0.7f;
+
+    // Cached overlays
+    private final BufferedImage scanlines;
+    private final BufferedImage vignette;
+    private final int vignetteClearX;   // Corner of the fully clear square in the middle
+    private final int vignetteClearY;
+
+    // Glow buffer (premultiplied, so blurring the channels is correct) and blur scratch
+    private final BufferedImage glow;
+    private final int[] glowPixels;
+    private final int[] blurScratch = new int[GLOW_WIDTH * GLOW_HEIGHT];
+    private int glowCount;
+
+    // Area of the glow buffer in use (buffer pixels, grown by the blur radius)
+    private int glowLeft;
+    private int glowTop;
+    private int glowRight;
+    private int glowBottom;
+    private final Composite glowComposite = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, GLOW_STRENGTH);
+
+    // Budget tracking
+    private int quality = -1;
+    private final boolean[] dropped = new boolean[EFFECT_COUNT];
+    private final double[] averageNanos = new double[EFFECT_COUNT];
+    private int framesMeasured;
+
+    /**
+     * Constructor - builds the static overlays and the glow buffer
+     */
+    public PostProcessor() {
+        scanlines = createOverlay();
+        Graphics2D g = scanlines.createGraphics();
+        g.setColor(new Color(0, 0, 0, SCANLINE_ALPHA));
+        for (int y = 1; y < Constants.WINDOW_HEIGHT; y += 2) {
+            g.fillRect(0, y, Constants.WINDOW_WIDTH, 1);
+        }
+        g.dispose();
+
+        vignette = createOverlay();
+        g = vignette.createGraphics();
+        float radius = (float) Math.hypot(Constants.WINDOW_WIDTH / 2.0, Constants.WINDOW_HEIGHT / 2.0);
+        g.setPaint(new RadialGradientPaint(Constants.WINDOW_WIDTH / 2f, Constants.WINDOW_HEIGHT / 2f, radius,
+            new float[] {0f, VIGNETTE_CLEAR, 1f},
+            new Color[] {new Color(0, 0, 0, 0), new Color(0, 0, 0, 0), new Color(0, 0, 0, VIGNETTE_ALPHA)}));
+        g.fillRect(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+        g.dispose();
+
+        // Square inside the clear circle - nothing to blend there
+        int clearHalf = (int) (radius * VIGNETTE_CLEAR / Math.sqrt(2));
+        vignetteClearX = Math.max(0, Constants.WINDOW_WIDTH / 2 - clearHalf);
+        vignetteClearY = Math.max(0, Constants.WINDOW_HEIGHT / 2 - clearHalf);
+
+        glow = new BufferedImage(GLOW_WIDTH, GLOW_HEIGHT, BufferedImage.TYPE_INT_ARGB_PRE);
+        glowPixels = ((DataBufferInt) glow.getRaster().getDataBuffer()).getData();
+    }
+
+    /**
+     * Translucent window-sized image in the screen's format when there is one
+     */
+    private static BufferedImage createOverlay() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getDefaultScreenDevice().getDefaultConfiguration();
+        return config.createCompatibleImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Use the budgets of a quality level (a new level gives dropped effects another chance)
+     */
+    public void setQuality(int quality) {
+        if (quality == this.quality) return;
+        this.quality = quality;
+        reset();
+    }
+
+    /**
+     * Forget dropped effects and measured costs
+     */
+    public void reset() {
+        Arrays.fill(dropped, false);
+        Arrays.fill(averageNanos, 0);
+        framesMeasured = 0;
+    }
+
+    /**
+     * Is an effect on at the current quality and within its budget?
+     */
+    public boolean isActive(int effect) {
+        return quality >= 0 && !dropped[effect] && BUDGET_NANOS[quality][effect] > 0;
+    }
+
+    /**
+     * Start collecting glow sources for this frame
+     */
+    public void beginGlow() {
+        if (glowCount > 0) {
+            for (int row = glowTop; row < glowBottom; row++) {
+                Arrays.fill(glowPixels, row * GLOW_WIDTH + glowLeft, row * GLOW_WIDTH + glowRight, 0);
+            }
+        }
+        glowCount = 0;
+    }
+
+    /**
+     * Add a glowing area (frame coordinates)
+     */
+    public void addGlow(int x, int y, int width, int height, Color color) {
+        int left = Math.max(0, x / GLOW_SCALE);
+        int top = Math.max(0, y / GLOW_SCALE);
+        int right = Math.min(GLOW_WIDTH, (x + width + GLOW_SCALE - 1) / GLOW_SCALE);
+        int bottom = Math.min(GLOW_HEIGHT, (y + height + GLOW_SCALE - 1) / GLOW_SCALE);
+        if (left >= right || top >= bottom) return;
+
+        int argb = 0xff000000 | (color.getRGB() & 0xffffff);
+        for (int row = top; row < bottom; row++) {
+            Arrays.fill(glowPixels, row * GLOW_WIDTH + left, row * GLOW_WIDTH + right, argb);
+        }
+
+        // Grow the area in use (the blur spreads the glow by its radius)
+        int margin = GLOW_RADIUS + 1;
+        left = Math.max(0, left - margin);
+        top = Math.max(0, top - margin);
+        right = Math.min(GLOW_WIDTH, right + margin);
+        bottom = Math.min(GLOW_HEIGHT, bottom + margin);
+        if (glowCount++ == 0) {
+            glowLeft = left;
+            glowTop = top;
+            glowRight = right;
+            glowBottom = bottom;
+        } else {
+            glowLeft = Math.min(glowLeft, left);
+            glowTop = Math.min(glowTop, top);
+            glowRight = Math.max(glowRight, right);
+            glowBottom = Math.max(glowBottom, bottom);
+        }
+    }
+
+    /**
+     * Apply the active effects to the finished frame
+     */
+    public void apply(Graphics2D g) {
+        if (quality < 0) return;
+
+        for (int effect = 0; effect < EFFECT_COUNT; effect++) {
+            if (!isActive(effect)) continue;
+
+            long start = System.nanoTime();
+            switch (effect) {
+                case EFFECT_BLOOM -> drawBloom(g);
+                case EFFECT_SCANLINES -> g.drawImage(scanlines, 0, 0, null);
+                case EFFECT_VIGNETTE -> drawVignette(g);
+            }
+            checkBudget(effect, System.nanoTime() - start);
+        }
+        framesMeasured++;
+    }
+
+    /**
+     * Blend the vignette around its clear middle (top, bottom, left and right strips)
+     */
+    private void drawVignette(Graphics2D g) {
+        int w = Constants.WINDOW_WIDTH;
+        int h = Constants.WINDOW_HEIGHT;
+        int x = vignetteClearX;
+        int y = vignetteClearY;
+        drawPart(g, vignette, 0, 0, w, y);
+        drawPart(g, vignette, 0, h - y, w, h);
+        drawPart(g, vignette, 0, y, x, h - y);
+        drawPart(g, vignette, w - x, y, w, h - y);
+    }
+
+    private static void drawPart(Graphics2D g, BufferedImage image, int x1, int y1, int x2, int y2) {
+        if (x1 < x2 && y1 < y2) {
+            g.drawImage(image, x1, y1, x2, y2, x1, y1, x2, y2, null);
+        }
+    }
+
+    /**
+     * Blur the used area of the glow buffer and stretch it over the frame
+     */
+    private void drawBloom(Graphics2D g) {
+        if (glowCount == 0) return;
+
+        int first = glowTop * GLOW_WIDTH + glowLeft;
+        int width = glowRight - glowLeft;
+        int height = glowBottom - glowTop;
+        blur(glowPixels, blurScratch, first, width, height, 1, GLOW_WIDTH);   // Rows
+        blur(blurScratch, glowPixels, first, height, width, GLOW_WIDTH, 1);   // Columns
+
+        Composite oldComposite = g.getComposite();
+        Object oldHint = g.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g.setComposite(glowComposite);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(glow, glowLeft * GLOW_SCALE, glowTop * GLOW_SCALE, glowRight * GLOW_SCALE, glowBottom * GLOW_SCALE,
+            glowLeft, glowTop, glowRight, glowBottom, null);
+        g.setComposite(oldComposite);
+        if (oldHint != null) {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, oldHint);
+        }
+    }
+
+    /**
+     * One box blur pass along lines of premultiplied pixels
+     * @param first index of the first pixel of the first line
+     * @param length pixels per line
+     * @param lines number of lines
+     * @param step distance between pixels of a line
+     * @param lineStep distance between the starts of two lines
+     */
+    private static void blur(int[] src, int[] dst, int first, int length, int lines, int step, int lineStep) {
+        int window = GLOW_RADIUS * 2 + 1;
+
+        for (int line = 0; line < lines; line++) {
+            int base = first + line * lineStep;
+            int a = 0, r = 0, gr = 0, b = 0;
+
+            // Window around the first pixel (edges count as empty)
+            for (int i = 0; i <= GLOW_RADIUS && i < length; i++) {
+                int p = src[base + i * step];
+                a += p >>> 24; r += (p >> 16) & 0xff; gr += (p >> 8) & 0xff; b += p & 0xff;
+            }
+
+            for (int i = 0; i < length; i++) {
+                dst[base + i * step] = ((a / window) << 24) | ((r / window) << 16) | ((gr / window) << 8) | (b / window);
+
+                // Slide the window one pixel
+                int in = i + GLOW_RADIUS + 1;
+                if (in < length) {
+                    int p = src[base + in * step];
+                    a += p >>> 24; r += (p >> 16) & 0xff; gr += (p >> 8) & 0xff; b += p & 0xff;
+                }
+                int out = i - GLOW_RADIUS;
+                if (out >= 0) {
+                    int p = src[base + out * step];
+                    a -= p >>> 24; r -= (p >> 16) & 0xff; gr -= (p >> 8) & 0xff; b -= p & 0xff;
+                }
+            }
+        }
+    }
+
+    /**
+     * Average an effect's cost and drop it when it is over budget
+     */
+    private void checkBudget(int effect, long nanos) {
+        averageNanos[effect] = framesMeasured == 0 ? nanos
+            : averageNanos[effect] + (nanos - averageNanos[effect]) * SMOOTHING;
+
+        long budget = BUDGET_NANOS[quality][effect];
+        if (framesMeasured >= WARMUP_FRAMES && averageNanos[effect] > budget) {
+            dropped[effect] = true;
+            System.out.printf("Post-processing: %s dropped (%.2f ms, budget %.2f ms)%n",
+                EFFECT_NAMES[effect], averageNanos[effect] / 1_000_000.0, budget / 1_000_000.0);
+        }
+    }
+}
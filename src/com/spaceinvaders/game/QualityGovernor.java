@@ -0,0 +1,141 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.utils.Constants;
+import java.util.Arrays;
+
+/**
+ * Quality governor - picks the AUTO quality level from measured frame times
+ * Keeps a rolling window of frame times (update + paint work on the EDT) and
+ * compares its 95th percentile with the frame budget of the target FPS
+ * Steps down quickly when frames run long, and only steps back up after
+ * several calm windows (longer after an up-step had to be undone)
+ */
+public class QualityGovernor {
+
+    // Rolling window (2 seconds at 60 FPS), evaluated every EVALUATE_INTERVAL frames once full
+    private static final int WINDOW = 120;
+    private static final int EVALUATE_INTERVAL = 30;
+
+    // Share of the frame budget the 95th percentile may use
+    private static final double STEP_DOWN_RATIO = 0.85; // Above - step down
+    private static final double STEP_UP_RATIO = 0.45;   // Below (in every recent window) - step up
+
+    // Calm windows needed before stepping up (doubles after each undone up-step)
+    private static final int CALM_WINDOWS = 4;
+    private static final int MAX_CALM_WINDOWS = 256;   // About 2 minutes at 60 FPS
+
+    // Unlimited FPS is governed towards this rate
+    private static final int DEFAULT_TARGET_FPS = 60;
+
+    // Frame times in nanoseconds (ring buffer) and scratch for percentiles
+    private final long[] samples = new long[WINDOW];
+    private final long[] sorted = new long[WINDOW];
+    private int sampleCount;
+    private int nextSample;
+    private int framesSinceEvaluation;
+
+    // Current level (0 = best) and hysteresis state
+    private int level = Constants.AUTO_LEVEL_FULL;
+    private int calmWindows;
+    private int calmWindowsNeeded = CALM_WINDOWS;
+    private boolean lastStepWasUp;
+
+    /**
+     * Record one frame
+     * @param frameNanos work time of the frame
+     * @param targetFps target frame rate (0 = unlimited)
+     * @return true when the level changed (apply it with getLevel)
+     */
+    public boolean record(long frameNanos, int targetFps) {
+        samples[nextSample] = frameNanos;
+        nextSample = (nextSample + 1) % WINDOW;
+        if (sampleCount < WINDOW) sampleCount++;
+
+        if (sampleCount < WINDOW || ++framesSinceEvaluation < EVALUATE_INTERVAL) return false;
+        framesSinceEvaluation = 0;
+
+        return evaluate(targetFps > 0 ? targetFps : DEFAULT_TARGET_FPS);
+    }
+
+    /**
+     * Compare the window's 95th percentile with the frame budget
+     */
+    private boolean evaluate(int targetFps) {
+        double budget = 1_000_000_000.0 / targetFps;
+        long p95 = getPercentile(95);
+
+        // Too slow - step down right away
+        if (p95 > budget * STEP_DOWN_RATIO) {
+            calmWindows = 0;
+            if (level == Constants.AUTO_LEVEL_COUNT - 1) return false;
+
+            // Undoing an up-step - wait longer before the next one
+            if (lastStepWasUp) {
+                calmWindowsNeeded = Math.min(calmWindowsNeeded * 2, MAX_CALM_WINDOWS);
+            }
+            changeLevel(level + 1, p95, budget);
+            lastStepWasUp = false;
+            return true;
+        }
+
+        // Plenty of headroom - step up after enough calm windows in a row
+        if (p95 < budget * STEP_UP_RATIO) {
+            if (++calmWindows < calmWindowsNeeded || level == Constants.AUTO_LEVEL_FULL) return false;
+
+            changeLevel(level - 1, p95, budget);
+            lastStepWasUp = true;
+            return true;
+        }
+
+        // In between - hold the level (a settled up-step counts as a success)
+        calmWindows = 0;
+        if (lastStepWasUp) {
+            calmWindowsNeeded = CALM_WINDOWS;
+            lastStepWasUp = false;
+        }
+        return false;
+    }
+
+    /**
+     * Switch level and start a fresh window (old samples were measured at the old level)
+     */
+    private void changeLevel(int newLevel, long p95, double budget) {
+        level = newLevel;
+        calmWindows = 0;
+        sampleCount = 0;
+        nextSample = 0;
+        framesSinceEvaluation = 0;
+
+        System.out.printf("Quality governor: level %d (p95 %.2f ms, budget %.2f ms)%n",
+            level, p95 / 1_000_000.0, budget / 1_000_000.0);
+    }
+
+    /**
+     * Get a percentile of the current window
+     * @param percent 0 to 100
+     * @return frame time in nanoseconds (0 when there are no samples)
+     */
+    public long getPercentile(int percent) {
+        if (sampleCount == 0) return 0;
+
+        System.arraycopy(samples, 0, sorted, 0, sampleCount);
+        Arrays.sort(sorted, 0, sampleCount);
+        int index = Math.min(sampleCount - 1, (sampleCount * percent) / 100);
+        return sorted[index];
+    }
+
+    /**
+     * Start again from the best level (AUTO quality selected again)
+     */
+    public void reset() {
+        level = Constants.AUTO_LEVEL_FULL;
+        calmWindows = 0;
+        calmWindowsNeeded = CALM_WINDOWS;
+        lastStepWasUp = false;
+        sampleCount = 0;
+        nextSample = 0;
+        framesSinceEvaluation = 0;
+    }
+
+    public int getLevel() { return level; }
+}
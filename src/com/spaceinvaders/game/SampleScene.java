@@ -0,0 +1,159 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.entities.AlienFormation;
+import com.spaceinvaders.entities.Bullet;
+import com.spaceinvaders.entities.Explosion;
+import com.spaceinvaders.entities.MysteryShip;
+import com.spaceinvaders.entities.ParticleSystem;
+import com.spaceinvaders.entities.Player;
+import com.spaceinvaders.entities.Shield;
+import com.spaceinvaders.entities.SpriteAtlas;
+import com.spaceinvaders.entities.Star;
+import com.spaceinvaders.utils.Constants;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+
+/**
+ * Sample scene - a fixed game frame built from the real entities
+ * Used to measure and compare renderers without running the game
+ * (benchmarks, startup calibration)
+ */
+public class SampleScene {
+
+    private static final Color COLOR_BACKGROUND = new Color(0, 0, 20);
+    private static final Font FONT_HUD = new Font("Arial", Font.BOLD, 20);
+    private static final char[] HUD_TEXT = "Score: 1250".toCharArray();
+
+    private final Star[] stars;
+    private final Player player;
+    private final AlienFormation formation;
+    private final MysteryShip mysteryShip;
+    private final Shield[] shields;
+    private final Bullet[] bullets;
+    private final Explosion[] explosions;
+    private final ParticleSystem particles;
+    private final BitmapFont font;
+
+    /**
+     * Constructor
+     * @param battle false = a wave just started, true = mid-wave with damage, shots and effects
+     */
+    private SampleScene(boolean battle) {
+        stars = new Star[Constants.STAR_COUNT_HIGH];
+        for (int i = 0; i < stars.length; i++) {
+            stars[i] = new Star();
+        }
+
+        player = new Player();
+
+        formation = new AlienFormation();
+        formation.createFormation();
+
+        mysteryShip = new MysteryShip(true);
+        mysteryShip.update(1.0);
+
+        shields = new Shield[Constants.SHIELD_COUNT];
+        int spacing = Constants.WINDOW_WIDTH / Constants.SHIELD_COUNT;
+        int shieldY = Constants.WINDOW_HEIGHT - Constants.SHIELD_Y_OFFSET - 64;
+        for (int i = 0; i < shields.length; i++) {
+            shields[i] = new Shield(i * spacing + spacing / 4, shieldY);
+        }
+
+        particles = new ParticleSystem(Constants.PARTICLE_BUDGET_HIGH);
+        font = new BitmapFont(FONT_HUD, Color.WHITE);
+
+        if (!battle) {
+            bullets = new Bullet[0];
+            explosions = new Explosion[0];
+            return;
+        }
+
+        // Some aliens and shield blocks gone
+        for (int i = formation.getAliveCount() - 1; i >= 0; i -= 4) {
+            formation.destroyAlien(formation.getLivingAlien(i));
+        }
+        for (int i = 0; i < shields.length; i++) {
+            for (int hit = 0; hit < 6; hit++) {
+                shields[i].checkBulletCollision(new Bullet(i * spacing + spacing / 4 + 8 + hit * 9, shieldY + 20, hit % 2 == 0));
+            }
+        }
+
+        // Shots and effects in flight
+        bullets = new Bullet[12];
+        for (int i = 0; i < bullets.length; i++) {
+            bullets[i] = new Bullet(60 + i * 60, 200 + (i % 4) * 60, i % 2 == 0);
+        }
+
+        explosions = new Explosion[4];
+        for (int i = 0; i < explosions.length; i++) {
+            explosions[i] = new Explosion(120 + i * 160, 260, i % 2 == 0 ? Color.ORANGE : Color.CYAN);
+            explosions[i].update(i * 0.1);
+            particles.emitAlienDeath(140 + i * 160, 280, Color.GREEN);
+        }
+        particles.update(0.05);
+    }
+
+    /**
+     * A wave that just started (full formation, intact shields, no effects)
+     */
+    public static SampleScene waveStart() { return new SampleScene(false); }
+
+    /**
+     * A busy mid-wave frame (damage, shots, explosions and particles)
+     */
+    public static SampleScene battle() { return new SampleScene(true); }
+
+    /**
+     * Draw the scene with Java2D (same calls as the game)
+     */
+    public void draw(Graphics2D g) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setColor(COLOR_BACKGROUND);
+        g.fillRect(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+
+        for (Star star : stars) {
+            star.render(g);
+        }
+        player.render(g);
+        formation.render(g);
+        mysteryShip.render(g);
+        for (Shield shield : shields) {
+            shield.render(g);
+        }
+        for (Bullet bullet : bullets) {
+            bullet.render(g);
+        }
+        for (Explosion explosion : explosions) {
+            explosion.render(g);
+        }
+        particles.render(g);
+        font.drawChars(g, HUD_TEXT, HUD_TEXT.length, 20, 30);
+    }
+
+    /**
+     * Draw the scene into the software framebuffer
+     */
+    public void draw(SoftwareRenderer renderer) {
+        renderer.clear(COLOR_BACKGROUND.getRGB());
+
+        for (Star star : stars) {
+            renderer.drawStar(star);
+        }
+        renderer.drawObject(player, SpriteAtlas.PLAYER);
+        renderer.drawFormation(formation);
+        renderer.drawObject(mysteryShip, SpriteAtlas.MYSTERY_SHIP);
+        for (Shield shield : shields) {
+            renderer.drawShield(shield);
+        }
+        for (Bullet bullet : bullets) {
+            renderer.drawBullet(bullet);
+        }
+        for (Explosion explosion : explosions) {
+            renderer.drawExplosion(explosion);
+        }
+        renderer.drawParticles(particles);
+        renderer.drawText(font, HUD_TEXT, HUD_TEXT.length, 20, 30);
+    }
+}
@@ -0,0 +1,58 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.utils.Constants;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.function.Consumer;
+
+/**
+ * Pre-rendered static layer of a full screen (menu, controls, settings)
+ * The layer is painted once into a transparent image and only painted again
+ * when its key changes (selection, settings, high score...)
+ */
+public class ScreenCache {
+
+    // Cached layer (transparent, so the starfield shows through)
+    private BufferedImage image;
+
+    // Key of the state the layer was painted with
+    private long key;
+
+    /**
+     * Draw the cached layer, repainting it first if the key changed
+     * @param g2d target graphics
+     * @param key packed state the static content depends on
+     * @param painter draws the static content
+     */
+    public void draw(Graphics2D g2d, long key, Consumer<Graphics2D> painter) {
+        if (image == null || key != this.key) {
+            repaint(painter);
+            this.key = key;
+        }
+        g2d.drawImage(image, 0, 0, null);
+    }
+
+    /**
+     * Clear the layer and paint the static content into it
+     */
+    private void repaint(Consumer<Graphics2D> painter) {
+        if (image == null) {
+            image = new BufferedImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        }
+
+        Graphics2D g = image.createGraphics();
+
+        // Clear to fully transparent
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g.setComposite(AlphaComposite.SrcOver);
+
+        // Same hints as the game panel
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        painter.accept(g);
+        g.dispose();
+    }
+}
@@ -0,0 +1,313 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.entities.Alien;
+import com.spaceinvaders.entities.AlienFormation;
+import com.spaceinvaders.entities.Bullet;
+import com.spaceinvaders.entities.Explosion;
+import com.spaceinvaders.entities.GameObject;
+import com.spaceinvaders.entities.ParticleSystem;
+import com.spaceinvaders.entities.Shield;
+import com.spaceinvaders.entities.SpriteAtlas;
+import com.spaceinvaders.entities.Star;
+import com.spaceinvaders.utils.Constants;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * Software framebuffer renderer - draws straight into the int[] of one image
+ * Pixel-art content is only rectangles and sprite blits, so simple loops over
+ * the raster beat Java2D's per-call overhead. The finished frame is presented
+ * with a single drawImage. Needs no display, so it also works headless
+ * Blending uses the same 8-bit math as Java2D, so frames match its output
+ */
+public class SoftwareRenderer {
+
+    // Framebuffer (opaque RGB) and its pixels
+    private final BufferedImage image;
+    private final int[] pixels;
+    private final int width;
+    private final int height;
+
+    // Sprite sheet pixels (ARGB)
+    private final SpriteAtlas atlas;
+    private final int[] sheet;
+    private final int sheetWidth;
+
+    // Java2D's 8-bit multiply table (a * b / 255, rounded the same way)
+    private static final byte[] MUL8 = new byte[256 * 256];
+
+    static {
+        for (int a = 1; a < 256; a++) {
+            int inc = a * 0x010101;
+            int value = inc + (1 << 23);
+            for (int b = 1; b < 256; b++) {
+                MUL8[(a << 8) | b] = (byte) (value >>> 24);
+                value += inc;
+            }
+        }
+    }
+
+    /**
+     * Constructor - creates a window-sized framebuffer
+     */
+    public SoftwareRenderer() {
+        this(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+    }
+
+    /**
+     * Constructor
+     * @param width framebuffer width
+     * @param height framebuffer height
+     */
+    public SoftwareRenderer(int width, int height) {
+        this.width = width;
+        this.height = height;
+        image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+
+        atlas = SpriteAtlas.getInstance();
+        sheet = atlas.getSheetPixels();
+        sheetWidth = atlas.getSheetWidth();
+    }
+
+    /* PRIMITIVES */
+
+    /**
+     * Fill the whole framebuffer with one color
+     */
+    public void clear(int rgb) {
+        Arrays.fill(pixels, rgb);
+    }
+
+    /**
+     * Fill a rectangle (ARGB color - opaque colors take the fast path)
+     */
+    public void fillRect(int x, int y, int w, int h, int argb) {
+        int left = Math.max(x, 0);
+        int top = Math.max(y, 0);
+        int right = Math.min(x + w, width);
+        int bottom = Math.min(y + h, height);
+        if (left >= right || top >= bottom) return;
+
+        int alpha = argb >>> 24;
+        if (alpha == 0) return;
+
+        // Opaque - plain row fills
+        if (alpha == 255) {
+            for (int row = top; row < bottom; row++) {
+                int offset = row * width;
+                Arrays.fill(pixels, offset + left, offset + right, argb);
+            }
+            return;
+        }
+
+        // Translucent - source over, color premultiplied once
+        int srcR = mul8(alpha, (argb >> 16) & 0xff);
+        int srcG = mul8(alpha, (argb >> 8) & 0xff);
+        int srcB = mul8(alpha, argb & 0xff);
+        int dstF = 255 - alpha;
+
+        for (int row = top; row < bottom; row++) {
+            int offset = row * width;
+            for (int i = offset + left; i < offset + right; i++) {
+                int dst = pixels[i];
+                int r = srcR + mul8(dstF, (dst >> 16) & 0xff);
+                int g = srcG + mul8(dstF, (dst >> 8) & 0xff);
+                int b = srcB + mul8(dstF, dst & 0xff);
+                pixels[i] = (r << 16) | (g << 8) | b;
+            }
+        }
+    }
+
+    /**
+     * Blit part of an ARGB pixel array (source over)
+     * Opaque pixels are copied, transparent ones skipped, the rest blended
+     * @param src source pixels (non-premultiplied ARGB)
+     * @param srcScan source row length
+     */
+    public void blit(int[] src, int srcScan, int sx, int sy, int w, int h, int dx, int dy) {
+        // Clip against the framebuffer, moving the source window along
+        if (dx < 0) { sx -= dx; w += dx; dx = 0; }
+        if (dy < 0) { sy -= dy; h += dy; dy = 0; }
+        if (dx + w > width) w = width - dx;
+        if (dy + h > height) h = height - dy;
+        if (w <= 0 || h <= 0) return;
+
+        for (int row = 0; row < h; row++) {
+            int s = (sy + row) * srcScan + sx;
+            int d = (dy + row) * width + dx;
+            for (int col = 0; col < w; col++, s++, d++) {
+                int argb = src[s];
+                int alpha = argb >>> 24;
+                if (alpha == 255) {
+                    pixels[d] = argb;
+                } else if (alpha != 0) {
+                    pixels[d] = blend(argb, alpha, pixels[d]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Blit part of an ARGB pixel array in one solid color (any visible pixel becomes the color)
+     */
+    public void blitTinted(int[] src, int srcScan, int sx, int sy, int w, int h, int dx, int dy, int rgb) {
+        if (dx < 0) { sx -= dx; w += dx; dx = 0; }
+        if (dy < 0) { sy -= dy; h += dy; dy = 0; }
+        if (dx + w > width) w = width - dx;
+        if (dy + h > height) h = height - dy;
+        if (w <= 0 || h <= 0) return;
+
+        for (int row = 0; row < h; row++) {
+            int s = (sy + row) * srcScan + sx;
+            int d = (dy + row) * width + dx;
+            for (int col = 0; col < w; col++, s++, d++) {
+                if ((src[s] >>> 24) != 0) {
+                    pixels[d] = rgb;
+                }
+            }
+        }
+    }
+
+    /**
+     * Draw a sprite from the atlas
+     */
+    public void drawSprite(int sprite, int x, int y) {
+        blit(sheet, sheetWidth, atlas.getCellX(sprite), atlas.getCellY(sprite),
+            atlas.getWidth(sprite), atlas.getHeight(sprite), x, y);
+    }
+
+    /**
+     * Draw text with a bitmap font
+     * @return x after the last glyph
+     */
+    public int drawText(BitmapFont font, char[] text, int length, int x, int baselineY) {
+        return font.drawChars(this, text, length, x, baselineY);
+    }
+
+    /* ENTITIES (same output as their render methods) */
+
+    public void drawStar(Star star) {
+        int b = star.getBrightness();
+        fillRect(star.getX(), star.getY(), star.getSize(), star.getSize(), 0xff000000 | (b << 16) | (b << 8) | b);
+    }
+
+    /**
+     * Draw a sprite-based entity (player, mystery ship) at its position
+     */
+    public void drawObject(GameObject object, int sprite) {
+        drawSprite(sprite, (int) object.getX(), (int) object.getY());
+    }
+
+    /**
+     * Draw the living aliens from the lattice origin (as the formation layer does)
+     */
+    public void drawFormation(AlienFormation formation) {
+        int count = formation.getAliveCount();
+        if (count == 0) return;
+
+        int left = formation.getOriginX();
+        int top = formation.getOriginY();
+        for (int i = 0; i < count; i++) {
+            Alien alien = formation.getLivingAlien(i);
+            drawSprite(SpriteAtlas.alienSprite(alien.getType(), alien.getAnimationFrame()),
+                left + alien.getColumn() * AlienFormation.getStrideX(),
+                top + alien.getRow() * AlienFormation.getStrideY());
+        }
+    }
+
+    /**
+     * Draw a shield as one filled cell per remaining block
+     */
+    public void drawShield(Shield shield) {
+        int block = Shield.getBlockSize();
+        int color = Shield.getColor().getRGB();
+
+        for (int row = 0; row < Shield.getBlockRows(); row++) {
+            // Merge runs of blocks into one fill
+            int col = 0;
+            while (col < Shield.getBlockColumns()) {
+                if (!shield.hasBlock(row, col)) {
+                    col++;
+                    continue;
+                }
+                int start = col;
+                while (col < Shield.getBlockColumns() && shield.hasBlock(row, col)) {
+                    col++;
+                }
+                fillRect(shield.getX() + start * block, shield.getY() + row * block, (col - start) * block, block, color);
+            }
+        }
+    }
+
+    public void drawBullet(Bullet bullet) {
+        fillRect((int) bullet.getX(), (int) bullet.getY(), bullet.getWidth(), bullet.getHeight(), bullet.getColor().getRGB());
+    }
+
+    /**
+     * Draw an explosion frame in its color
+     * (the white frame with the colored overlay on top leaves only the color)
+     */
+    public void drawExplosion(Explosion explosion) {
+        int frame = explosion.getCurrentFrame();
+        if (frame >= Explosion.getFrameCount()) return;
+
+        int sprite = SpriteAtlas.EXPLOSION + frame;
+        blitTinted(sheet, sheetWidth, atlas.getCellX(sprite), atlas.getCellY(sprite),
+            atlas.getWidth(sprite), atlas.getHeight(sprite),
+            (int) explosion.getX(), (int) explosion.getY(), explosion.getColor().getRGB());
+    }
+
+    /**
+     * Draw particles in the particle system's own draw order
+     */
+    public void drawParticles(ParticleSystem particles) {
+        int count = particles.getCount();
+        if (count == 0) return;
+
+        particles.sortForDrawing();
+        for (int k = 0; k < count; k++) {
+            int i = particles.getDrawOrder(k);
+            int size = particles.getParticleSize(i);
+            fillRect(particles.getParticleX(i), particles.getParticleY(i), size, size, particles.getParticleArgb(i));
+        }
+    }
+
+    /* OUTPUT */
+
+    /**
+     * Present the framebuffer with one blit
+     */
+    public void present(Graphics2D g2d) {
+        g2d.drawImage(image, 0, 0, null);
+    }
+
+    /**
+     * Get the framebuffer image (for further Java2D drawing or saving)
+     */
+    public BufferedImage getImage() { return image; }
+
+    /**
+     * Get the framebuffer pixels (RGB, row length = width)
+     */
+    public int[] getPixels() { return pixels; }
+
+    /* BLENDING */
+
+    private static int mul8(int a, int b) {
+        return MUL8[(a << 8) | b] & 0xff;
+    }
+
+    /**
+     * Source over for a translucent ARGB pixel on an opaque RGB pixel
+     */
+    private static int blend(int argb, int alpha, int dst) {
+        int dstF = 255 - alpha;
+        int r = mul8(alpha, (argb >> 16) & 0xff) + mul8(dstF, (dst >> 16) & 0xff);
+        int g = mul8(alpha, (argb >> 8) & 0xff) + mul8(dstF, (dst >> 8) & 0xff);
+        int b = mul8(alpha, argb & 0xff) + mul8(dstF, dst & 0xff);
+        return (r << 16) | (g << 8) | b;
+    }
+}
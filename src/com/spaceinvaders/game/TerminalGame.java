@@ -0,0 +1,134 @@
+package com.spaceinvaders.game;
+
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Terminal game - runs the game in a text terminal instead of a window
+ * For headless machines reached over SSH: AWT runs headless (no display),
+ * the frame is drawn in memory with the software renderer, TerminalRenderer
+ * shows it and TerminalInput reads the keys
+ * Start with: java -cp bin com.spaceinvaders.Main --terminal
+ */
+public final class TerminalGame {
+
+    // Console messages would scribble over the picture, so they go here
+    private static final String LOG_FILE = "spaceinvaders.log";
+
+    // How often the terminal size is checked (there is no resize event without a signal handler)
+    private static final long SIZE_CHECK_MS = 1000;
+
+    private static final File TTY = new File("/dev/tty");
+
+    private TerminalGame() {} // Static helper only
+
+    /**
+     * Settings that must be made before AWT starts: headless, software renderer
+     */
+    public static void prepare() {
+        System.setProperty("java.awt.headless", "true");
+        System.setProperty("spaceinvaders.renderer", "software");
+    }
+
+    /**
+     * Start the game in the terminal (on the EDT)
+     */
+    public static void start() {
+        String savedMode = System.console() == null ? null : stty("-g");
+        if (savedMode == null) {
+            System.err.println("Terminal mode needs an interactive terminal (stdin and stdout not redirected).");
+            System.exit(1);
+        }
+
+        // Raw keys: no line buffering or echo (Ctrl+C still quits)
+        stty("-icanon", "-echo", "min", "1", "time", "0");
+
+        TerminalRenderer renderer = new TerminalRenderer(new FileOutputStream(FileDescriptor.out));
+        redirectConsole();
+        updateSize(renderer);
+        renderer.begin();
+
+        // Put the terminal back however the game ends
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            renderer.end();
+            stty(savedMode);
+        }, "terminal-restore"));
+
+        GamePanel gamePanel = new GamePanel();
+        gamePanel.setTerminalRenderer(renderer);
+
+        // Keys (this thread also keeps the game running, there is no window)
+        new Thread(new TerminalInput(System.in, gamePanel), "terminal-input").start();
+
+        Thread sizePoller = new Thread(() -> {
+            while (true) {
+                try {
+                    Thread.sleep(SIZE_CHECK_MS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                updateSize(renderer);
+            }
+        }, "terminal-size");
+        sizePoller.setDaemon(true);
+        sizePoller.start();
+    }
+
+    private static void updateSize(TerminalRenderer renderer) {
+        String size = stty("size");   // "rows columns"
+        if (size == null) return;
+
+        String[] parts = size.trim().split("\\s+");
+        try {
+            renderer.setSize(Integer.parseInt(parts[1]), Integer.parseInt(parts[0]));
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            // Keep the last size
+        }
+    }
+
+    /**
+     * Send System.out and System.err to the log file
+     */
+    private static void redirectConsole() {
+        try {
+            PrintStream log = new PrintStream(new FileOutputStream(LOG_FILE, true), true, StandardCharsets.UTF_8);
+            System.setOut(log);
+            System.setErr(log);
+        } catch (FileNotFoundException e) {
+            // Nowhere to log - drop the messages rather than break the picture
+            PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+            System.setOut(discard);
+            System.setErr(discard);
+        }
+    }
+
+    /**
+     * Run stty on the controlling terminal
+     * @return what it printed, or null when it failed
+     */
+    private static String stty(String... args) {
+        String[] command = new String[args.length + 1];
+        command[0] = "stty";
+        System.arraycopy(args, 0, command, 1, args.length);
+
+        try {
+            Process process = new ProcessBuilder(command)
+                .redirectInput(ProcessBuilder.Redirect.from(TTY))
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return process.waitFor() == 0 ? output : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.utils.Constants;
+import java.awt.Component;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Terminal input - turns keys read from a raw-mode terminal into key events
+ * Terminals only send characters (and repeat them while a key is held), never
+ * releases, so a key counts as held until no repeat has come for a while
+ * (-Dspaceinvaders.keyhold=ms). Events go to the game's key listeners on the EDT
+ */
+public class TerminalInput implements Runnable {
+
+    private static final int ESC = 27;
+
+    // Time to wait for the rest of an escape sequence before taking ESC as the Escape key
+    private static final long ESCAPE_WAIT_MS = 30;
+
+    private final InputStream in;
+    private final Component source;
+    private final int holdMs = Integer.getInteger("spaceinvaders.keyhold", Constants.TERMINAL_KEY_HOLD_MS);
+
+    // Release timers of the keys held now (EDT only)
+    private final Map<Integer, Timer> held = new HashMap<>();
+
+    /**
+     * Constructor
+     * @param in the terminal (standard input, already in raw mode)
+     * @param source component whose key listeners get the events
+     */
+    public TerminalInput(InputStream in, Component source) {
+        this.in = in;
+        this.source = source;
+    }
+
+    /**
+     * Read keys until the terminal closes, then quit
+     */
+    @Override
+    public void run() {
+        try {
+            int c;
+            while ((c = in.read()) != -1) {
+                int keyCode = c == ESC ? readEscape() : toKeyCode(c);
+                if (keyCode != KeyEvent.VK_UNDEFINED) {
+                    SwingUtilities.invokeLater(() -> press(keyCode));
+                }
+            }
+        } catch (IOException e) {
+            // Terminal gone
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Key for a plain character
+     */
+    private static int toKeyCode(int c) {
+        return switch (Character.toLowerCase(c)) {
+            case ' ' -> KeyEvent.VK_SPACE;
+            case '\r', '\n' -> KeyEvent.VK_ENTER;
+            case 'p' -> KeyEvent.VK_P;
+            case 'a' -> KeyEvent.VK_A;
+            case 'd' -> KeyEvent.VK_D;
+            case 'w' -> KeyEvent.VK_W;
+            case 's' -> KeyEvent.VK_S;
+            default -> KeyEvent.VK_UNDEFINED;
+        };
+    }
+
+    /**
+     * After ESC: an arrow key sequence (ESC [ A, ESC O A, ESC [ 1 ; 5 A ...) or Escape itself
+     */
+    private int readEscape() throws IOException {
+        long deadline = System.currentTimeMillis() + ESCAPE_WAIT_MS;
+        while (in.available() == 0) {
+            if (System.currentTimeMillis() >= deadline) return KeyEvent.VK_ESCAPE;
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return KeyEvent.VK_ESCAPE;
+            }
+        }
+
+        int c = in.read();
+        if (c != '[' && c != 'O') return KeyEvent.VK_UNDEFINED;
+
+        // Parameters, then the final byte that names the key
+        do {
+            c = in.read();
+        } while (c != -1 && (c < 0x40 || c > 0x7e));
+
+        return switch (c) {
+            case 'A' -> KeyEvent.VK_UP;
+            case 'B' -> KeyEvent.VK_DOWN;
+            case 'C' -> KeyEvent.VK_RIGHT;
+            case 'D' -> KeyEvent.VK_LEFT;
+            default -> KeyEvent.VK_UNDEFINED;
+        };
+    }
+
+    /**
+     * Key pressed (or repeated) - send the press and (re)start its release timer
+     */
+    private void press(int keyCode) {
+        dispatch(KeyEvent.KEY_PRESSED, keyCode);
+
+        Timer release = held.get(keyCode);
+        if (release == null) {
+            release = new Timer(holdMs, e -> {
+                held.remove(keyCode);
+                dispatch(KeyEvent.KEY_RELEASED, keyCode);
+            });
+            release.setRepeats(false);
+            held.put(keyCode, release);
+        }
+        release.restart();
+    }
+
+    private void dispatch(int id, int keyCode) {
+        KeyEvent event = new KeyEvent(source, id, System.currentTimeMillis(), 0, keyCode, KeyEvent.CHAR_UNDEFINED);
+        for (KeyListener listener : source.getKeyListeners()) {
+            if (id == KeyEvent.KEY_PRESSED) {
+                listener.keyPressed(event);
+            } else {
+                listener.keyReleased(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.utils.Constants;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Terminal renderer - shows game frames in an ANSI terminal (SSH sessions)
+ * Every character cell holds two pixels: the upper half block in the
+ * foreground color over the lower pixel as the background (24-bit color)
+ * Frames are box-filtered down to the terminal size and only cells that
+ * changed since the last frame are sent. Output is written on its own
+ * thread - a frame that comes while the last one is still going out is skipped
+ */
+public class TerminalRenderer {
+
+    private static final String CSI = "\u001b[";
+    private static final char UPPER_HALF = '\u2580';
+    // Cells whose colors moved less than this (per channel) are left alone - keeps
+    // faint changes like twinkling stars from costing bandwidth
+    private static final int COLOR_TOLERANCE = 12;
+
+    private static final String STATUS = " SPACE INVADERS   arrows/WASD move  space shoot  P pause  Enter select  Esc back  Ctrl+C quit";
+
+    // Where the bytes go, and the thread that writes them
+    private final OutputStream out;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "terminal-output");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean writing = new AtomicBoolean();
+    private final StringBuilder text = new StringBuilder();
+
+    // Frame rate sent to the terminal
+    private final long frameIntervalNanos = 1_000_000_000L / Constants.TERMINAL_FPS;
+    private long lastFrameNanos;
+
+    // Terminal size (set by the size poller) and the layout built for it
+    private volatile int terminalColumns = 80;
+    private volatile int terminalRows = 24;
+    private int layoutColumns;
+    private int layoutRows;
+    private int cellColumns;       // Picture size in cells
+    private int cellRows;
+    private int firstColumn;       // Picture offset (centered)
+    private int[] sourceX;         // Frame column where each picture pixel starts (one extra at the end)
+    private int[] sourceY;
+
+    // Colors on screen, two per cell (upper, lower), -1 = unknown
+    private int[] cells;
+
+    // Colors the terminal is set to (-1 = unknown) and the cursor position
+    private int currentForeground;
+    private int currentBackground;
+    private int cursorRow;
+    private int cursorColumn;
+
+    /**
+     * Constructor
+     * @param out the terminal (standard output)
+     */
+    public TerminalRenderer(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Switch to the alternate screen and hide the cursor
+     */
+    public void begin() {
+        writeNow(CSI + "?1049h" + CSI + "?25l" + CSI + "2J");
+    }
+
+    /**
+     * Restore the normal screen, colors and cursor (waits for a frame being written)
+     */
+    public void end() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(500, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeNow(CSI + "0m" + CSI + "?25h" + CSI + "?1049l");
+    }
+
+    /**
+     * Set the terminal size (columns, rows); the next frame is laid out again
+     */
+    public void setSize(int columns, int rows) {
+        terminalColumns = Math.max(columns, 1);
+        terminalRows = Math.max(rows, 2);
+    }
+
+    /**
+     * Is it time for a frame, and is the terminal done with the last one?
+     */
+    public boolean isReady() {
+        return System.nanoTime() - lastFrameNanos >= frameIntervalNanos && !writing.get();
+    }
+
+    /**
+     * Send a frame to the terminal (only the cells that changed)
+     * @param pixels WINDOW_WIDTH x WINDOW_HEIGHT RGB pixels
+     */
+    public void draw(int[] pixels) {
+        if (!writing.compareAndSet(false, true)) return;
+        lastFrameNanos = System.nanoTime();
+
+        text.setLength(0);
+        if (terminalColumns != layoutColumns || terminalRows != layoutRows) {
+            layout();
+        }
+
+        for (int row = 0; row < cellRows; row++) {
+            for (int column = 0; column < cellColumns; column++) {
+                int upper = average(pixels, column, row * 2);
+                int lower = average(pixels, column, row * 2 + 1);
+
+                int cell = (row * cellColumns + column) * 2;
+                if (isClose(cells[cell], upper) && isClose(cells[cell + 1], lower)) continue;
+                cells[cell] = upper;
+                cells[cell + 1] = lower;
+
+                moveTo(row, firstColumn + column);
+                if (upper == lower) {
+                    setBackground(upper);
+                    text.append(' ');
+                } else {
+                    setForeground(upper);
+                    setBackground(lower);
+                    text.append(UPPER_HALF);
+                }
+                cursorColumn++;
+            }
+        }
+
+        if (text.length() == 0) {
+            writing.set(false);
+            return;
+        }
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        writer.execute(() -> {
+            try {
+                out.write(bytes);
+                out.flush();
+            } catch (IOException e) {
+                // Terminal gone - nothing left to show frames on
+            }
+            writing.set(false);
+        });
+    }
+
+    /**
+     * Fit the picture to the terminal (last row is the status line), clear the screen
+     */
+    private void layout() {
+        layoutColumns = terminalColumns;
+        layoutRows = terminalRows;
+
+        // Largest picture that fits, keeping the frame's shape (a cell is two square pixels)
+        // Never larger than the frame itself
+        double scale = Math.max(1.0, Math.max((double) Constants.WINDOW_WIDTH / layoutColumns,
+            (double) Constants.WINDOW_HEIGHT / ((layoutRows - 1) * 2)));
+        int pictureWidth = Math.max(1, Math.min(layoutColumns, (int) Math.round(Constants.WINDOW_WIDTH / scale)));
+        int pictureHeight = Math.max(2, Math.min((layoutRows - 1) * 2, (int) Math.round(Constants.WINDOW_HEIGHT / scale)));
+        cellColumns = pictureWidth;
+        cellRows = pictureHeight / 2;
+        firstColumn = (layoutColumns - cellColumns) / 2;
+
+        sourceX = new int[pictureWidth + 1];
+        for (int i = 0; i <= pictureWidth; i++) {
+            sourceX[i] = i * Constants.WINDOW_WIDTH / pictureWidth;
+        }
+        sourceY = new int[cellRows * 2 + 1];
+        for (int i = 0; i <= cellRows * 2; i++) {
+            sourceY[i] = i * Constants.WINDOW_HEIGHT / (cellRows * 2);
+        }
+
+        cells = new int[cellColumns * cellRows * 2];
+        Arrays.fill(cells, -1);
+
+        // Clear, then the status line (cut to the width)
+        text.append(CSI).append("0m").append(CSI).append("2J");
+        text.append(CSI).append(layoutRows).append(";1H");
+        text.append(STATUS, 0, Math.min(STATUS.length(), layoutColumns));
+        currentForeground = -1;
+        currentBackground = -1;
+        cursorRow = -1;
+    }
+
+    /**
+     * Average color of the frame pixels under one picture pixel
+     */
+    private int average(int[] pixels, int x, int y) {
+        int x0 = sourceX[x];
+        int x1 = sourceX[x + 1];
+        int y0 = sourceY[y];
+        int y1 = sourceY[y + 1];
+
+        int r = 0, g = 0, b = 0;
+        for (int sy = y0; sy < y1; sy++) {
+            int index = sy * Constants.WINDOW_WIDTH + x0;
+            for (int sx = x0; sx < x1; sx++, index++) {
+                int p = pixels[index];
+                r += (p >> 16) & 0xff;
+                g += (p >> 8) & 0xff;
+                b += p & 0xff;
+            }
+        }
+        int count = (x1 - x0) * (y1 - y0);
+        return ((r / count) << 16) | ((g / count) << 8) | (b / count);
+    }
+
+    /**
+     * Are two colors within the tolerance? (unknown = never)
+     */
+    private static boolean isClose(int shown, int rgb) {
+        if (shown < 0) return false;
+        return Math.abs(((shown >> 16) & 0xff) - ((rgb >> 16) & 0xff)) < COLOR_TOLERANCE
+            && Math.abs(((shown >> 8) & 0xff) - ((rgb >> 8) & 0xff)) < COLOR_TOLERANCE
+            && Math.abs((shown & 0xff) - (rgb & 0xff)) < COLOR_TOLERANCE;
+    }
+
+    /**
+     * Move the cursor unless it is already there
+     */
+    private void moveTo(int row, int column) {
+        if (row == cursorRow && column == cursorColumn) return;
+        text.append(CSI).append(row + 1).append(';').append(column + 1).append('H');
+        cursorRow = row;
+        cursorColumn = column;
+    }
+
+    private void setForeground(int rgb) {
+        if (rgb == currentForeground) return;
+        text.append(CSI).append("38;2;");
+        appendColor(rgb);
+        currentForeground = rgb;
+    }
+
+    private void setBackground(int rgb) {
+        if (rgb == currentBackground) return;
+        text.append(CSI).append("48;2;");
+        appendColor(rgb);
+        currentBackground = rgb;
+    }
+
+    private void appendColor(int rgb) {
+        text.append((rgb >> 16) & 0xff).append(';').append((rgb >> 8) & 0xff).append(';').append(rgb & 0xff).append('m');
+    }
+
+    private void writeNow(String sequence) {
+        try {
+            out.write(sequence.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        } catch (IOException e) {
+            // Terminal gone
+        }
+    }
+}
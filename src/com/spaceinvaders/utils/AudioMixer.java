@@ -0,0 +1,380 @@
+package com.spaceinvaders.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * Software audio mixer - plays all sound effects and the music through one output line
+ * Effects are decoded once into 16-bit stereo samples; a dedicated thread adds
+ * up the voices playing now and writes the mix to a single SourceDataLine
+ * The line buffer (-Dspaceinvaders.audioBuffer=ms) sets the latency, and the
+ * voice cap (-Dspaceinvaders.voices=n) the work per buffer. When every voice
+ * is busy a new sound takes the place of the least important one, or is
+ * dropped if all of them matter more. Callers never wait: play() only posts
+ * a request to a lock-free queue that the mixer thread takes before each chunk
+ */
+public class AudioMixer {
+
+    // Voice priorities (a sound never steals a voice from a higher one)
+    public static final int PRIORITY_LOW = 0;      // Shots
+    public static final int PRIORITY_NORMAL = 1;   // Explosions, menu
+    public static final int PRIORITY_HIGH = 2;     // Player death, game over, victory
+
+    private static final int CHANNELS = 2;
+    private static final int FRAME_BYTES = CHANNELS * 2;
+    private static final int GAIN_ONE = 1 << 12;   // Fixed-point gain 1.0
+
+    // How long the line plays before the latency is measured and logged
+    private static final long LATENCY_REPORT_FRAMES = Constants.AUDIO_SAMPLE_RATE * 2L;
+
+    /**
+     * A decoded sound effect - interleaved 16-bit stereo at the mixer's rate
+     */
+    public static final class Sample {
+        private final short[] data;
+        private final int frames;
+
+        Sample(short[] data) {
+            this.data = data;
+            this.frames = data.length / CHANNELS;
+        }
+
+        public int getFrames() { return frames; }
+    }
+
+    /**
+     * A sound to start, posted by play() (a null sample stops everything)
+     */
+    private static final class Request {
+        final Sample sample;
+        final int gainLeft;
+        final int gainRight;
+        final int priority;
+
+        Request(Sample sample, int gainLeft, int gainRight, int priority) {
+            this.sample = sample;
+            this.gainLeft = gainLeft;
+            this.gainRight = gainRight;
+            this.priority = priority;
+        }
+    }
+
+    private static final Request STOP_ALL = new Request(null, 0, 0, 0);
+
+    /**
+     * One playing sound
+     */
+    private static final class Voice {
+        Sample sample;     // null = free
+        int position;      // Next frame
+        int gainLeft;      // Fixed-point, GAIN_ONE = 1.0
+        int gainRight;
+        int priority;
+        long started;      // Order of play() calls (oldest is stolen first)
+    }
+
+    private final AudioFormat format = new AudioFormat(Constants.AUDIO_SAMPLE_RATE, 16, CHANNELS, true, false);
+    private final SourceDataLine line;
+    private final int chunkFrames;
+
+    // Requests from the game, taken by the mixer thread
+    private final ConcurrentLinkedQueue<Request> requests = new ConcurrentLinkedQueue<>();
+
+    // Voices and mix buffers (audio thread only)
+    private final Voice[] voices;
+    private long playCount;
+    private final int[] mix;
+    private final byte[] output;
+
+    private volatile float masterGain = 1f;
+
+    // Streamed music, mixed under the effects (null = none or paused)
+    private volatile MusicStream music;
+    private volatile float musicGain = 1f;
+    private volatile int underruns;
+    private volatile long framesWritten;
+
+    private AudioMixer(SourceDataLine line, int voiceCount) {
+        this.line = line;
+        // Written in halves of the line buffer, so one half plays while the next is mixed
+        this.chunkFrames = Math.max(64, line.getBufferSize() / FRAME_BYTES / 2);
+        this.voices = new Voice[voiceCount];
+        for (int i = 0; i < voiceCount; i++) {
+            voices[i] = new Voice();
+        }
+        this.mix = new int[chunkFrames * CHANNELS];
+        this.output = new byte[chunkFrames * FRAME_BYTES];
+    }
+
+    /**
+     * Open the output line and start the mixer thread
+     * @return the mixer, or null when there is no audio output (the game runs silent)
+     */
+    public static AudioMixer open() {
+        int bufferMs = Math.max(5, Integer.getInteger("spaceinvaders.audioBuffer", Constants.AUDIO_BUFFER_MS));
+        int voiceCount = Math.max(1, Integer.getInteger("spaceinvaders.voices", Constants.AUDIO_VOICES));
+
+        try {
+            AudioFormat format = new AudioFormat(Constants.AUDIO_SAMPLE_RATE, 16, CHANNELS, true, false);
+            SourceDataLine line = AudioSystem.getSourceDataLine(format);
+            line.open(format, Constants.AUDIO_SAMPLE_RATE * bufferMs / 1000 * FRAME_BYTES);
+            line.start();
+
+            AudioMixer mixer = new AudioMixer(line, voiceCount);
+            Thread thread = new Thread(mixer::run, "audio-mixer");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MAX_PRIORITY);
+            thread.start();
+
+            System.out.println("Audio: mixer on one line, " + voiceCount + " voices, "
+                + mixer.getBufferMillis() + " ms buffer");
+            return mixer;
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+            // No audio device (headless servers, SSH sessions)
+            System.out.println("No audio output (game will continue without sound)");
+            return null;
+        }
+    }
+
+    /**
+     * Decode a sound file into a sample the mixer can play
+     * @return the sample, or null when the file is missing or unreadable
+     */
+    public static Sample decode(File file) {
+        if (!file.exists()) {
+            System.out.println("Sound file not found: " + file.getName() + " (game will continue without it)");
+            return null;
+        }
+
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(file)) {
+            AudioFormat sourceFormat = source.getFormat();
+            int channels = sourceFormat.getChannels();
+            AudioFormat pcm = new AudioFormat(sourceFormat.getSampleRate(), 16, channels, true, false);
+
+            byte[] bytes;
+            try (AudioInputStream decoded = AudioSystem.getAudioInputStream(pcm, source)) {
+                bytes = decoded.readAllBytes();
+            }
+
+            // To stereo: mono goes to both sides, extra channels are dropped
+            int frames = bytes.length / (channels * 2);
+            short[] stereo = new short[frames * CHANNELS];
+            for (int f = 0; f < frames; f++) {
+                int offset = f * channels * 2;
+                short left = (short) ((bytes[offset] & 0xff) | (bytes[offset + 1] << 8));
+                short right = left;
+                if (channels > 1) {
+                    right = (short) ((bytes[offset + 2] & 0xff) | (bytes[offset + 3] << 8));
+                }
+                stereo[f * 2] = left;
+                stereo[f * 2 + 1] = right;
+            }
+
+            return new Sample(resample(stereo, sourceFormat.getSampleRate()));
+        } catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+            System.out.println("Could not load sound: " + file.getName());
+            return null;
+        }
+    }
+
+    /**
+     * Convert stereo samples to the mixer's rate (linear interpolation)
+     */
+    private static short[] resample(short[] stereo, float rate) {
+        if (rate == Constants.AUDIO_SAMPLE_RATE || rate == AudioSystem.NOT_SPECIFIED) return stereo;
+
+        int frames = stereo.length / CHANNELS;
+        int outFrames = (int) ((long) frames * Constants.AUDIO_SAMPLE_RATE / rate);
+        short[] out = new short[outFrames * CHANNELS];
+        double step = rate / Constants.AUDIO_SAMPLE_RATE;
+        for (int f = 0; f < outFrames; f++) {
+            double position = f * step;
+            int i = (int) position;
+            double t = position - i;
+            int next = Math.min(i + 1, frames - 1);
+            for (int c = 0; c < CHANNELS; c++) {
+                out[f * 2 + c] = (short) Math.round(stereo[i * 2 + c] * (1 - t) + stereo[next * 2 + c] * t);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Start a sound (never blocks: the mixer thread picks it up before its next chunk)
+     * @param gain volume of this sound (0.0 to 1.0, master volume applies on top)
+     * @param pan -1.0 (left) to 1.0 (right)
+     * @param priority PRIORITY_LOW, PRIORITY_NORMAL or PRIORITY_HIGH
+     */
+    public void play(Sample sample, float gain, float pan, int priority) {
+        if (sample == null || gain <= 0f) return;
+
+        // Equal-power pan: same loudness at every position
+        double angle = (Math.max(-1f, Math.min(1f, pan)) + 1) * Math.PI / 4;
+        int left = (int) Math.round(gain * Math.cos(angle) * Math.sqrt(2) * GAIN_ONE);
+        int right = (int) Math.round(gain * Math.sin(angle) * Math.sqrt(2) * GAIN_ONE);
+
+        requests.offer(new Request(sample, Math.min(left, GAIN_ONE), Math.min(right, GAIN_ONE), priority));
+    }
+
+    /**
+     * Start the requested sounds (mixer thread)
+     */
+    private void takeRequests() {
+        Request request;
+        while ((request = requests.poll()) != null) {
+            if (request == STOP_ALL) {
+                for (Voice voice : voices) {
+                    voice.sample = null;
+                }
+                continue;
+            }
+
+            Voice voice = findVoice(request.priority);
+            if (voice == null) continue;   // Everything playing matters more
+
+            voice.sample = request.sample;
+            voice.position = 0;
+            voice.gainLeft = request.gainLeft;
+            voice.gainRight = request.gainRight;
+            voice.priority = request.priority;
+            voice.started = playCount++;
+        }
+    }
+
+    /**
+     * A free voice, or the one to steal: lowest priority, then oldest
+     * @return null when every voice plays something more important
+     */
+    private Voice findVoice(int priority) {
+        Voice victim = null;
+        for (Voice voice : voices) {
+            if (voice.sample == null) return voice;
+            if (victim == null || voice.priority < victim.priority
+                    || (voice.priority == victim.priority && voice.started < victim.started)) {
+                victim = voice;
+            }
+        }
+        return victim.priority <= priority ? victim : null;
+    }
+
+    /**
+     * Stop every sound
+     */
+    public void stopAll() {
+        requests.offer(STOP_ALL);
+    }
+
+    /**
+     * Master volume for every sound (0.0 to 1.0)
+     */
+    public void setMasterGain(float gain) {
+        masterGain = Math.max(0f, Math.min(1f, gain));
+    }
+
+    /**
+     * Music to mix in from now on (null = silence, the stream keeps its place)
+     */
+    public void setMusic(MusicStream stream) {
+        music = stream;
+    }
+
+    /**
+     * Music volume (0.0 to 1.0, separate from the master volume for effects)
+     */
+    public void setMusicGain(float gain) {
+        musicGain = Math.max(0f, Math.min(1f, gain));
+    }
+
+    /**
+     * Audio mixer thread - mix a chunk, hand it to the line (which waits while it is full)
+     * Runs as long as the game (daemon thread, the line goes with the JVM)
+     */
+    private void run() {
+        boolean reported = false;
+        while (true) {
+            mixChunk();
+
+            // The line ran dry since the last write: the mix was late and the sound cut out
+            if (framesWritten > 0 && line.available() >= line.getBufferSize()) {
+                underruns++;
+            }
+            line.write(output, 0, output.length);
+            framesWritten += chunkFrames;
+
+            if (!reported && framesWritten >= LATENCY_REPORT_FRAMES) {
+                reported = true;
+                System.out.printf("Audio: latency %.1f ms (%d ms buffer, %d underruns)%n",
+                    getLatencyMillis(), getBufferMillis(), underruns);
+            }
+        }
+    }
+
+    /**
+     * Add up the playing voices into the output buffer
+     */
+    private void mixChunk() {
+        takeRequests();
+        Arrays.fill(mix, 0);
+        int master = Math.round(masterGain * GAIN_ONE);
+
+        for (Voice voice : voices) {
+            Sample sample = voice.sample;
+            if (sample == null) continue;
+
+            int frames = Math.min(chunkFrames, sample.frames - voice.position);
+            int gainLeft = voice.gainLeft * master >> 12;
+            int gainRight = voice.gainRight * master >> 12;
+            short[] data = sample.data;
+            int in = voice.position * CHANNELS;
+            for (int i = 0, out = 0; i < frames; i++, in += 2, out += 2) {
+                mix[out] += data[in] * gainLeft >> 12;
+                mix[out + 1] += data[in + 1] * gainRight >> 12;
+            }
+
+            voice.position += frames;
+            if (voice.position >= sample.frames) {
+                voice.sample = null;
+            }
+        }
+
+        MusicStream stream = music;
+        if (stream != null) {
+            stream.mixInto(mix, chunkFrames, Math.round(musicGain * GAIN_ONE));
+        }
+
+        // Clip to 16 bits, little-endian
+        for (int i = 0, b = 0; i < mix.length; i++, b += 2) {
+            int value = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mix[i]));
+            output[b] = (byte) value;
+            output[b + 1] = (byte) (value >> 8);
+        }
+    }
+
+    /**
+     * Measured latency: audio written to the line but not played yet
+     */
+    public double getLatencyMillis() {
+        long queued = framesWritten - line.getLongFramePosition();
+        return Math.max(0, queued) * 1000.0 / format.getSampleRate();
+    }
+
+    /**
+     * Size of the line buffer actually granted by the device
+     */
+    public int getBufferMillis() {
+        return line.getBufferSize() / FRAME_BYTES * 1000 / Constants.AUDIO_SAMPLE_RATE;
+    }
+
+    /**
+     * Times the line ran dry (each one is an audible gap)
+     */
+    public int getUnderruns() { return underruns; }
+}
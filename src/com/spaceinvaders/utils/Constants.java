@@ -11,15 +11,60 @@ public final class Constants {
     public static final int GAME_SPEED = 1000 / FPS; // Game speed like ~16ms
     public static final int INITIAL_LIVES = 3; // Player start with 3 lives
 
+    /* FIXED-STEP SIMULATION (reproducible mode) */
+    public static final int SIMULATION_TICK_RATE = 60; // Ticks per second
+    public static final double SIMULATION_TICK = 1.0 / SIMULATION_TICK_RATE; // Seconds per tick
+    public static final int SIMULATION_MAX_TICKS_PER_FRAME = 6; // Drop time instead of spiraling
+
     /* GRAPHICS SETTINGS */
     public static final int STAR_COUNT_HIGH = 150;    // High quality
     public static final int STAR_COUNT_MEDIUM = 75;   // Medium quality
     public static final int STAR_COUNT_LOW = 30;      // Low quality (better performance)
 
+    /* PARTICLE BUDGETS (max live particles) */
+    public static final int PARTICLE_BUDGET_HIGH = 1500;  // High quality
+    public static final int PARTICLE_BUDGET_MEDIUM = 600; // Medium quality
+    public static final int PARTICLE_BUDGET_LOW = 200;    // Low quality
+
+    /* SCALE MODES (logical frame to window) */
+    public static final int SCALE_MODE_INTEGER = 0;   // Whole-number scale, nearest neighbour (sharp pixels)
+    public static final int SCALE_MODE_FIT = 1;       // Largest scale that fits, filtered
+
+    /* RENDER MODES (-Dspaceinvaders.renderer=full|dirty|parallel|software) */
+    public static final int RENDER_MODE_FULL = 0;     // Repaint the whole screen every frame
+    public static final int RENDER_MODE_DIRTY = 1;    // Repaint only damaged regions (low fill rate machines)
+    public static final int RENDER_MODE_PARALLEL = 2; // Paint game layers on worker threads (multi-core machines)
+    public static final int RENDER_MODE_SOFTWARE = 3; // Draw the game into a raw int[] framebuffer
+
+    /* TERMINAL MODE (--terminal) */
+    public static final int TERMINAL_FPS = 30;            // Frames sent to the terminal per second
+    public static final int TERMINAL_KEY_HOLD_MS = 250;   // A key counts as held this long after its last repeat
+
+    /* AUDIO MIXER (-Dspaceinvaders.audioBuffer=ms, -Dspaceinvaders.voices=n) */
+    public static final int AUDIO_SAMPLE_RATE = 44100;    // All effects are mixed at this rate
+    public static final int AUDIO_BUFFER_MS = 40;         // Output line buffer (latency vs. cut-outs)
+    public static final int AUDIO_VOICES = 16;            // Sounds playing at once
+    public static final float AUDIO_PAN_WIDTH = 0.6f;     // Pan at the screen edges (1 = fully one side)
+    public static final int MUSIC_BUFFER_MS = 500;        // Music ring buffer (all the music held in memory)
+    public static final int MUSIC_FILL_MS = 50;           // How often the audio thread tops the music ring up
+    public static final int SYNTH_MARCH_NOTE_MS = 120;    // Longest march note (shorter when the beat is faster)
+    public static final int SYNTH_ATTACK_MS = 2;          // Fade-in of synthesized sounds (avoids clicks)
+    public static final int SOUND_LOAD_THREADS = 4;       // Effects decoded in parallel at startup
+    public static final int SOUND_LOAD_BUDGET_MS = 250;   // Startup time allowed for loading sounds (logged when over)
+
     /* SETTINGS QUALITY LEVELS */
     public static final int QUALITY_HIGH = 0;
     public static final int QUALITY_MEDIUM = 1;
     public static final int QUALITY_LOW = 2;
+    public static final int QUALITY_AUTO = 3;   // Adjusted by the quality governor
+
+    /* AUTO QUALITY LEVELS (stepped by the governor, 0 = best) */
+    public static final int AUTO_LEVEL_FULL = 0;           // High counts, anti-aliasing on
+    public static final int AUTO_LEVEL_NO_AA = 1;          // High counts, anti-aliasing off
+    public static final int AUTO_LEVEL_MEDIUM = 2;         // Medium counts
+    public static final int AUTO_LEVEL_LOW = 3;            // Low counts
+    public static final int AUTO_LEVEL_NO_EFFECTS = 4;     // Low stars, no particles or post-processing
+    public static final int AUTO_LEVEL_COUNT = 5;
 
     /* SETTINGS FPS */
     public static final int FPS_60 = 60;
@@ -81,6 +126,9 @@ public final class Constants {
     public static final double ALIEN_SHOOT_CHANCE_BASE = 0.007; // Starting chance (0.7%)
     public static final double ALIEN_SHOOT_CHANCE_INCREMENT = 0.002; // Increase per wave (0.2%)
     public static final double ALIEN_SHOOT_CHANCE_MAX = 0.02; // Maximum chance (2%)
+    public static final double ALIEN_AIMED_SHOT_CHANCE = 0.35; // Share of shots fired from the column above the player
+    public static final double ALIEN_MARCH_STEP = 20.0; // Pixels moved between march animation frames
+    public static final double[] ALIEN_SPEED_TIERS = {1.0, 1.3, 1.7, 2.4, 3.0}; // Speed multipliers as the formation thins out
 
     /* MYSTERY SHIP */
     public static final int MYSTERY_SHIP_WIDTH = 60; // 60 px
@@ -0,0 +1,38 @@
+package com.spaceinvaders.utils;
+
+/**
+ * 16.16 fixed-point helpers for the reproducible simulation mode
+ * Values are plain ints: high 16 bits = whole pixels, low 16 bits = fraction
+ */
+public final class FixedPoint {
+
+    public static final int SHIFT = 16;
+    public static final int ONE = 1 << SHIFT;
+
+    /**
+     * Whole pixels to fixed-point
+     */
+    public static int fromInt(int value) { return value << SHIFT; }
+
+    /**
+     * Convert a constant to fixed-point (rounded)
+     * Only use for setup values - simulation steps must stay integer
+     */
+    public static int fromDouble(double value) { return (int) Math.round(value * ONE); }
+
+    /**
+     * Fixed-point to whole pixels (rounds toward negative infinity)
+     */
+    public static int toInt(int value) { return value >> SHIFT; }
+
+    /**
+     * Convert a speed in pixels per second to fixed-point pixels per tick
+     */
+    public static int perTick(double pixelsPerSecond, int tickRate) {
+        return fromDouble(pixelsPerSecond / tickRate);
+    }
+
+    private FixedPoint() {
+        // Private constructor
+    }
+}
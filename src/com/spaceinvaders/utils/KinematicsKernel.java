@@ -0,0 +1,70 @@
+package com.spaceinvaders.utils;
+
+/**
+ * Bulk kinematics over primitive arrays: pos += vel * dt for many objects at once
+ * Two implementations exist - a SIMD one (jdk.incubator.vector) and a plain scalar loop
+ *
+ * Select at startup with -Dspaceinvaders.kinematics=auto|vector|scalar (default auto)
+ * The vector kernel lives in src-vector (built only with --add-modules jdk.incubator.vector)
+ * and needs the module at run time too, otherwise scalar is used
+ */
+public interface KinematicsKernel {
+
+    /**
+     * Advance positions by velocity: pos[i] += vel[i] * dt for i in [0, count)
+     * Also used for velocity += acceleration * dt
+     */
+    void integrate(float[] pos, float[] vel, int count, float dt);
+
+    /**
+     * Name shown in logs and benchmarks
+     */
+    String getName();
+
+    /**
+     * Advance 2D positions (x and y arrays) in one call
+     */
+    default void integrate2D(float[] x, float[] y, float[] vx, float[] vy, int count, float dt) {
+        integrate(x, vx, count, dt);
+        integrate(y, vy, count, dt);
+    }
+
+    /**
+     * Get the kernel selected at startup
+     */
+    static KinematicsKernel getDefault() {
+        return Holder.DEFAULT;
+    }
+
+    /**
+     * Create a kernel by mode name
+     * @param mode "vector", "scalar" or "auto" (vector if available)
+     */
+    static KinematicsKernel create(String mode) {
+        if (!"scalar".equals(mode)) {
+            try {
+                // Loaded by name so this class works when the incubator module is absent
+                Class<?> vectorClass = Class.forName("com.spaceinvaders.utils.VectorKinematics");
+                return (KinematicsKernel) vectorClass.getDeclaredConstructor().newInstance();
+            } catch (Throwable e) {
+                if ("vector".equals(mode)) {
+                    System.out.println("Vector kinematics not available (build src-vector and run with --add-modules jdk.incubator.vector), using scalar.");
+                }
+            }
+        }
+        return new ScalarKinematics();
+    }
+
+    /**
+     * Lazy holder for the startup kernel
+     */
+    final class Holder {
+        private static final KinematicsKernel DEFAULT = create(System.getProperty("spaceinvaders.kinematics", "auto"));
+
+        static {
+            System.out.println("Kinematics kernel: " + DEFAULT.getName());
+        }
+
+        private Holder() {}
+    }
+}
@@ -0,0 +1,179 @@
+package com.spaceinvaders.utils;
+
+import java.io.File;
+import java.io.IOException;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * Music stream - plays a track straight from disk through a small ring buffer
+ * The audio thread tops the ring up with fill() and the mixer thread takes
+ * from it (one writer, one reader, no locks). At the end of the file it
+ * starts over while the ring still holds the last part, so the loop has no gap
+ * Tracks at another rate are resampled on the way in (linear interpolation
+ * that carries across reads and across the loop point)
+ * Memory use is the ring (MUSIC_BUFFER_MS) whatever the length of the track
+ */
+public class MusicStream {
+
+    private static final int CHANNELS = 2;
+
+    private final File file;
+    private AudioInputStream in;     // Audio thread only
+    private int channels;
+    private byte[] bytes;
+    private int bytesRead;           // Decoded bytes in 'bytes', and how many were used up
+    private int bytesUsed;
+
+    // Resampling (audio thread): source frames per output frame, how far the next output
+    // frame is past the last source frame, and that frame
+    private double step = 1;
+    private double phase;
+    private short lastLeft;
+    private short lastRight;
+
+    // Interleaved stereo ring; 'written' moves on the audio thread, 'read' on the mixer thread
+    private final short[] ring;
+    private final int capacity;      // Frames
+    private volatile long written;
+    private volatile long read;
+    private volatile int underruns;
+    private volatile boolean closed;
+
+    private MusicStream(File file) {
+        this.file = file;
+        this.capacity = Constants.AUDIO_SAMPLE_RATE * Constants.MUSIC_BUFFER_MS / 1000;
+        this.ring = new short[capacity * CHANNELS];
+    }
+
+    /**
+     * Open a track (mono or stereo, any rate)
+     * @return the stream, or null when the file cannot be played
+     */
+    public static MusicStream open(File file) {
+        MusicStream stream = new MusicStream(file);
+        try {
+            stream.openFile();
+            return stream;
+        } catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+            System.out.println("Could not stream music: " + file.getName() + " (" + e.getMessage() + ")");
+            return null;
+        }
+    }
+
+    /**
+     * (Re)open the file at its start, decoding to 16-bit little-endian samples
+     */
+    private void openFile() throws UnsupportedAudioFileException, IOException {
+        AudioInputStream source = AudioSystem.getAudioInputStream(file);
+        AudioFormat format = source.getFormat();
+        float rate = format.getSampleRate();
+        step = rate == AudioSystem.NOT_SPECIFIED ? 1 : rate / Constants.AUDIO_SAMPLE_RATE;
+
+        channels = format.getChannels();
+        AudioFormat pcm = new AudioFormat(rate, 16, channels, true, false);
+        in = AudioSystem.getAudioInputStream(pcm, source);
+        bytes = new byte[Constants.AUDIO_SAMPLE_RATE / 20 * channels * 2];   // About 50 ms per read
+        bytesRead = 0;
+        bytesUsed = 0;
+    }
+
+    /**
+     * Top the ring up from the file, looping at its end (audio thread)
+     */
+    public void fill() {
+        if (in == null) return;
+
+        try {
+            int frameBytes = channels * 2;
+            boolean reopened = false;
+            long free = capacity - (written - read);
+            int position = (int) (written % capacity);
+            while (free > 0) {
+                if (bytesUsed == bytesRead) {
+                    int count = in.read(bytes, 0, bytes.length / frameBytes * frameBytes);
+                    if (count <= 0) {
+                        // End of the track: start it over (an empty file would loop forever)
+                        in.close();
+                        if (reopened) {
+                            close();
+                            return;
+                        }
+                        openFile();
+                        reopened = true;
+                        continue;
+                    }
+                    reopened = false;
+                    bytesRead = count / frameBytes * frameBytes;
+                    bytesUsed = 0;
+                }
+
+                // Output frames fall between the last source frame and this one
+                int frames = 0;
+                while (bytesUsed < bytesRead && free > 0) {
+                    short left = (short) ((bytes[bytesUsed] & 0xff) | (bytes[bytesUsed + 1] << 8));
+                    short right = channels > 1 ? (short) ((bytes[bytesUsed + 2] & 0xff) | (bytes[bytesUsed + 3] << 8)) : left;
+                    while (phase < 1 && free > 0) {
+                        ring[position * 2] = (short) Math.round(lastLeft + (left - lastLeft) * phase);
+                        ring[position * 2 + 1] = (short) Math.round(lastRight + (right - lastRight) * phase);
+                        if (++position == capacity) position = 0;
+                        phase += step;
+                        frames++;
+                        free--;
+                    }
+                    if (phase < 1) break;   // Ring full - this source frame is used next time
+
+                    phase -= 1;
+                    lastLeft = left;
+                    lastRight = right;
+                    bytesUsed += frameBytes;
+                }
+                written += frames;   // Publishes the samples to the mixer
+            }
+        } catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+            System.out.println("Music stream stopped: " + e.getMessage());
+            close();
+        }
+    }
+
+    /**
+     * Add the next frames to a mix (mixer thread)
+     * Plays silence rather than waiting when the ring has run dry
+     * @param gain fixed-point gain (4096 = 1.0)
+     */
+    void mixInto(int[] mix, int frames, int gain) {
+        long available = written - read;
+        int count = (int) Math.min(frames, available);
+        if (count < frames && !closed) {
+            underruns++;
+        }
+
+        int position = (int) (read % capacity);
+        for (int f = 0, out = 0; f < count; f++, out += 2) {
+            mix[out] += ring[position * 2] * gain >> 12;
+            mix[out + 1] += ring[position * 2 + 1] * gain >> 12;
+            if (++position == capacity) position = 0;
+        }
+        read += count;
+    }
+
+    /**
+     * Close the file (audio thread)
+     */
+    public void close() {
+        try {
+            if (in != null) in.close();
+        } catch (IOException e) {
+            // Nothing left to do with it
+        }
+        in = null;
+        closed = true;
+    }
+
+    /**
+     * Times the mixer found the ring empty (each one is a gap in the music)
+     */
+    public int getUnderruns() { return underruns; }
+}
@@ -0,0 +1,17 @@
+package com.spaceinvaders.utils;
+
+/**
+ * Plain loop kinematics - always available (fallback for the vector kernel)
+ */
+public class ScalarKinematics implements KinematicsKernel {
+
+    @Override
+    public void integrate(float[] pos, float[] vel, int count, float dt) {
+        for (int i = 0; i < count; i++) {
+            pos[i] += vel[i] * dt;
+        }
+    }
+
+    @Override
+    public String getName() { return "scalar"; }
+}
@@ -1,34 +1,67 @@
 package com.spaceinvaders.utils;
 
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
 
 /**
  * Manages saving and loading high scores
  * Saves to a file so scores persist between game sessions
+ * Writes happen on a background thread, never in a game frame: updates made
+ * while a write is queued are saved together. Each save goes to a temp file
+ * that is synced to disk and then renamed over the old one, so a crash leaves
+ * either the old score or the new one. The file is a format line, the score
+ * and a CRC32 of both, all checked on load (a save file from older versions,
+ * a bare number, still loads). A shutdown hook waits for the last write, so
+ * every way out of the game keeps the score
  */
 public class ScoreManager {
-    
+
     // Singleton instance
     private static ScoreManager instance;
-    
-    // File to save scores
-    private static final String SAVE_FILE = "highscore.dat";
-    
-    // Current high score
-    private int highScore;
-    
+
+    // File to save scores, and the temp file written before the rename
+    private static final Path SAVE_FILE = Path.of("highscore.dat");
+    private static final Path TEMP_FILE = Path.of("highscore.dat.tmp");
+
+    // First line of the current file format
+    private static final String FORMAT = "spaceinvaders-highscore 1";
+
+    // How long closing the game waits for the last write
+    private static final long FLUSH_TIMEOUT_MS = 2000;
+
+    // Current high score, and the one last written to disk
+    private volatile int highScore;
+    private int savedScore;
+
+    // Background writer; saveQueued is set while a write waits to start
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "score-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean saveQueued = new AtomicBoolean();
+
     /**
      * Private constructor (Singleton)
      */
     private ScoreManager() {
         loadHighScore();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "score-flush"));
     }
-    
+
     /**
      * Get singleton instance
      */
@@ -38,46 +71,142 @@ public class ScoreManager {
         }
         return instance;
     }
-    
+
     /**
      * Load high score from file
+     * Falls back to a complete temp file (crash between sync and rename)
      */
     private void loadHighScore() {
-        File file = new File(SAVE_FILE);
-        
-        if (file.exists()) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                String line = reader.readLine();
-                if (line != null && !line.isEmpty()) {
-                    highScore = Integer.parseInt(line.trim());
-                    System.out.println("High score loaded: " + highScore);
+        Integer loaded = readScore(SAVE_FILE, true);
+        if (loaded == null) {
+            loaded = readScore(TEMP_FILE, false);
+        }
+
+        highScore = loaded != null ? loaded : 0;
+        savedScore = highScore;
+        if (loaded != null) {
+            System.out.println("High score loaded: " + highScore);
+        }
+    }
+
+    /**
+     * Read and check a score file
+     * @param legacy also accept the old format (a bare number)
+     * @return the score, or null when the file is missing or damaged
+     */
+    private static Integer readScore(Path file, boolean legacy) {
+        if (!Files.exists(file)) return null;
+
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            while (!lines.isEmpty() && lines.get(lines.size() - 1).isBlank()) {
+                lines.remove(lines.size() - 1);
+            }
+            if (lines.isEmpty()) {
+                throw new NumberFormatException("empty");
+            }
+
+            if (lines.get(0).equals(FORMAT)) {
+                // Current format: all three lines, checksum must match
+                if (lines.size() != 3) {
+                    throw new NumberFormatException("incomplete");
                 }
-            } catch (IOException | NumberFormatException e) {
-                System.out.println("Could not load high score, starting fresh.");
-                highScore = 0;
+                String score = lines.get(1).trim();
+                if (!lines.get(2).trim().equals(checksum(score))) {
+                    throw new NumberFormatException("checksum mismatch");
+                }
+                return Integer.parseInt(score);
+            }
+
+            // Old format - only ever in the save file itself (a temp file without the
+            // format line is a cut-off write)
+            if (!legacy || lines.size() != 1) {
+                throw new NumberFormatException("unknown format");
             }
-        } else {
-            highScore = 0;
+            return Integer.parseInt(lines.get(0).trim());
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("Could not load high score from " + file + " (" + e.getMessage() + ")");
+            return null;
         }
     }
-    
+
     /**
-     * Save high score to file
+     * CRC32 of the format line and the score
+     */
+    private static String checksum(String score) {
+        CRC32 crc = new CRC32();
+        crc.update((FORMAT + "\n" + score).getBytes(StandardCharsets.UTF_8));
+        return String.format("%08x", crc.getValue());
+    }
+
+    /**
+     * Queue a save on the background writer (returns at once)
+     * Saves requested while one is already queued are merged into it
      */
     public void saveHighScore() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(SAVE_FILE))) {
-            writer.write(String.valueOf(highScore));
-            System.out.println("High score saved: " + highScore);
+        if (saveQueued.compareAndSet(false, true)) {
+            writer.execute(this::write);
+        }
+    }
+
+    /**
+     * Write anything not saved yet and wait for it (shutdown hook)
+     */
+    public void flush() {
+        try {
+            writer.submit(this::write).get(FLUSH_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            System.out.println("Could not save high score: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the current score: temp file, sync, atomic rename (writer thread)
+     */
+    private void write() {
+        saveQueued.set(false);   // Updates from now on need another write
+        int score = highScore;
+        if (score == savedScore) return;
+
+        String text = String.valueOf(score);
+        byte[] bytes = (FORMAT + "\n" + text + "\n" + checksum(text) + "\n").getBytes(StandardCharsets.UTF_8);
+        try {
+            try (FileChannel channel = FileChannel.open(TEMP_FILE,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.wrap(bytes));
+                channel.force(true);   // On disk before it replaces the old file
+            }
+            try {
+                Files.move(TEMP_FILE, SAVE_FILE, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(TEMP_FILE, SAVE_FILE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            syncDirectory();
+            savedScore = score;
+            System.out.println("High score saved: " + score);
         } catch (IOException e) {
             System.out.println("Could not save high score: " + e.getMessage());
         }
     }
-    
+
+    /**
+     * Sync the folder holding the save file, so the rename itself survives a crash
+     * (not possible on every platform - Windows cannot open a folder this way)
+     */
+    private static void syncDirectory() {
+        Path directory = SAVE_FILE.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The file itself is synced; only the rename may be lost on a crash
+        }
+    }
+
     /**
      * Get current high score
      */
     public int getHighScore() { return highScore; }
-    
+
     /**
      * Check and update high score if new score is higher
      * @param newScore The score to check
@@ -86,12 +215,12 @@ public class ScoreManager {
     public boolean checkAndUpdateHighScore(int newScore) {
         if (newScore > highScore) {
             highScore = newScore;
-            saveHighScore();  // Auto-save when new high score
+            saveHighScore();  // Auto-save when new high score (in the background)
             return true;
         }
         return false;
     }
-    
+
     /**
      * Reset high score to zero
      */
@@ -99,4 +228,4 @@ public class ScoreManager {
         highScore = 0;
         saveHighScore();
     }
-}
\ No newline at end of file
+}
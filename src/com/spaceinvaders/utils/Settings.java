@@ -19,7 +19,33 @@ public class Settings {
     
     // Star count based on quality
     private int starCount = Constants.STAR_COUNT_HIGH;
+
+    // Particle budget based on quality
+    private int particleBudget = Constants.PARTICLE_BUDGET_HIGH;
+
+    // Anti-aliasing (only turned off by the AUTO quality governor)
+    private boolean antialiasing = true;
+    private int autoLevel = Constants.AUTO_LEVEL_FULL;
     
+    // Fixed-step, fixed-point simulation (reproducible across machines)
+    // Enabled at startup with -Dspaceinvaders.fixedstep=true
+    private boolean fixedStepSimulation = Boolean.getBoolean("spaceinvaders.fixedstep");
+
+    // Seed for simulation randomness (-Dspaceinvaders.seed=N), null = random
+    private Long simulationSeed = Long.getLong("spaceinvaders.seed");
+
+    // CRT post-processing (scanlines, bloom, vignette)
+    private boolean postProcessing = false;
+
+    // How the 800x600 frame is scaled to the window
+    private int scaleMode = Constants.SCALE_MODE_INTEGER;
+
+    // Start in full screen (-Dspaceinvaders.fullscreen=true)
+    private boolean startFullScreen = Boolean.getBoolean("spaceinvaders.fullscreen");
+
+    // Render mode (-Dspaceinvaders.renderer=full|dirty|parallel|software)
+    private int renderMode = parseRenderMode(System.getProperty("spaceinvaders.renderer", "full"));
+
     private Settings() {} // Private constructor for singleton
     
     public static Settings getInstance() {
@@ -33,20 +59,73 @@ public class Settings {
     
     public void setGraphicsQuality(int quality) {
         this.graphicsQuality = quality;
+        antialiasing = true;
         
-        // Update star count based on quality
+        // Update star count and particle budget based on quality
         switch (quality) {
             case Constants.QUALITY_HIGH:
                 starCount = Constants.STAR_COUNT_HIGH;
+                particleBudget = Constants.PARTICLE_BUDGET_HIGH;
                 break;
             case Constants.QUALITY_MEDIUM:
                 starCount = Constants.STAR_COUNT_MEDIUM;
+                particleBudget = Constants.PARTICLE_BUDGET_MEDIUM;
                 break;
             case Constants.QUALITY_LOW:
                 starCount = Constants.STAR_COUNT_LOW;
+                particleBudget = Constants.PARTICLE_BUDGET_LOW;
+                break;
+            case Constants.QUALITY_AUTO:
+                setAutoLevel(Constants.AUTO_LEVEL_FULL);
                 break;
         }
     }
+
+    /**
+     * Apply one step of the automatic quality ladder (AUTO quality only)
+     */
+    public void setAutoLevel(int level) {
+        if (graphicsQuality != Constants.QUALITY_AUTO) return;
+
+        autoLevel = level;
+        antialiasing = level == Constants.AUTO_LEVEL_FULL;
+
+        switch (level) {
+            case Constants.AUTO_LEVEL_FULL, Constants.AUTO_LEVEL_NO_AA -> {
+                starCount = Constants.STAR_COUNT_HIGH;
+                particleBudget = Constants.PARTICLE_BUDGET_HIGH;
+            }
+            case Constants.AUTO_LEVEL_MEDIUM -> {
+                starCount = Constants.STAR_COUNT_MEDIUM;
+                particleBudget = Constants.PARTICLE_BUDGET_MEDIUM;
+            }
+            case Constants.AUTO_LEVEL_LOW -> {
+                starCount = Constants.STAR_COUNT_LOW;
+                particleBudget = Constants.PARTICLE_BUDGET_LOW;
+            }
+            default -> {
+                starCount = Constants.STAR_COUNT_LOW;
+                particleBudget = 0; // No particle effects at all
+            }
+        }
+    }
+
+    public boolean isAutoQuality() { return graphicsQuality == Constants.QUALITY_AUTO; }
+
+    /**
+     * Quality level that effect budgets follow (AUTO maps its current level)
+     */
+    public int getEffectiveQuality() {
+        if (graphicsQuality != Constants.QUALITY_AUTO) return graphicsQuality;
+
+        return switch (autoLevel) {
+            case Constants.AUTO_LEVEL_FULL, Constants.AUTO_LEVEL_NO_AA -> Constants.QUALITY_HIGH;
+            case Constants.AUTO_LEVEL_MEDIUM -> Constants.QUALITY_MEDIUM;
+            default -> Constants.QUALITY_LOW;
+        };
+    }
+
+    public int getAutoLevel() { return autoLevel; }
     
     public int getGraphicsQuality() {
         return graphicsQuality;
@@ -57,11 +136,16 @@ public class Settings {
             case Constants.QUALITY_HIGH: return "HIGH";
             case Constants.QUALITY_MEDIUM: return "MEDIUM";
             case Constants.QUALITY_LOW: return "LOW";
+            case Constants.QUALITY_AUTO: return "AUTO";
             default: return "UNKNOWN";
         }
     }
     
     public int getStarCount() { return starCount; }
+
+    public int getParticleBudget() { return particleBudget; }
+
+    public boolean isAntialiasing() { return antialiasing; }
     
     // FPS DISPLAY
     
@@ -106,10 +190,81 @@ public class Settings {
         return 1000 / targetFps;
     }
 
+    // POST-PROCESSING
+
+    public boolean isPostProcessing() { return postProcessing; }
+
+    /**
+     * Is post-processing on and not shed by the AUTO quality governor?
+     */
+    public boolean isPostProcessingActive() {
+        return postProcessing && !(isAutoQuality() && autoLevel >= Constants.AUTO_LEVEL_NO_EFFECTS);
+    }
+
+    public void togglePostProcessing() { postProcessing = !postProcessing; }
+
+    // SCALING
+
+    public int getScaleMode() { return scaleMode; }
+
+    public String getScaleModeName() {
+        return switch (scaleMode) {
+            case Constants.SCALE_MODE_INTEGER -> "INTEGER";
+            case Constants.SCALE_MODE_FIT -> "FIT";
+            default -> "UNKNOWN";
+        };
+    }
+
+    public boolean isStartFullScreen() { return startFullScreen; }
+
+    // SIMULATION
+
+    public boolean isFixedStepSimulation() { return fixedStepSimulation; }
+
+    /**
+     * Get the simulation seed, or null when randomness is not seeded
+     */
+    public Long getSimulationSeed() { return simulationSeed; }
+
+    /**
+     * Seed simulation randomness (null = random); used by games started afterwards
+     */
+    public void setSimulationSeed(Long seed) { this.simulationSeed = seed; }
+
+    // RENDERING
+
+    public int getRenderMode() { return renderMode; }
+
+    /**
+     * Change the render mode (used by game panels created afterwards)
+     */
+    public void setRenderMode(int renderMode) { this.renderMode = renderMode; }
+
+    public String getRenderModeName() {
+        return switch (renderMode) {
+            case Constants.RENDER_MODE_DIRTY -> "dirty";
+            case Constants.RENDER_MODE_PARALLEL -> "parallel";
+            case Constants.RENDER_MODE_SOFTWARE -> "software";
+            default -> "full";
+        };
+    }
+
+    /**
+     * Render mode from its name (unknown names use the full repaint)
+     */
+    private static int parseRenderMode(String name) {
+        return switch (name.trim().toLowerCase()) {
+            case "dirty" -> Constants.RENDER_MODE_DIRTY;
+            case "parallel" -> Constants.RENDER_MODE_PARALLEL;
+            case "software" -> Constants.RENDER_MODE_SOFTWARE;
+            default -> Constants.RENDER_MODE_FULL;
+        };
+    }
+
     // CYCLE METHODS (for menu)
     
     public void cycleGraphicsQuality() {
-        graphicsQuality = (graphicsQuality + 1) % 3;
+        graphicsQuality = (graphicsQuality + 1) % 4;
         setGraphicsQuality(graphicsQuality);
     }
     
@@ -124,4 +279,8 @@ public class Settings {
     public void cycleFpsOptionReverse() {
         fpsOption = (fpsOption - 1 + 3) % 3;
     }
+
+    public void cycleScaleMode() {
+        scaleMode = (scaleMode + 1) % 2;
+    }
 }
\ No newline at end of file
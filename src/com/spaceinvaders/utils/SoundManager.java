@@ -1,46 +1,84 @@
 package com.spaceinvaders.utils;
 
-import javax.sound.sampled.*;
 import java.io.File;
-import java.io.IOException;
 import java.net.URL;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
 
 /**
  * Manages all game sounds and music
  * Singleton pattern - only one instance exists
+ * Nothing here waits on the audio system: effects are posted to the mixer,
+ * and music commands run on the audio-commands thread, which also streams the
+ * music from disk (file and line calls can block for milliseconds on some
+ * Linux audio stacks). Getters return the last value set
+ * Sounds load in the background, so the first frame does not wait for them;
+ * an effect played before its file is decoded is skipped
  */
 public class SoundManager {
     
     // Singleton instance
     private static SoundManager instance;
     
-    // Sound clips
-    private Clip playerShootClip;
-    private Clip alienShootClip;
-    private Clip explosionClip;
-    private Clip playerExplosionClip;
-    private Clip menuSelectClip;
-    private Clip menuConfirmClip;
-    private Clip pauseClip;
-    private Clip gameOverClip;
-    private Clip victoryClip;
-    private Clip backgroundMusic;
+    // Sound effects (decoded once, played by the mixer; null until loaded)
+    private volatile AudioMixer mixer;
+    private volatile AudioMixer.Sample playerShootSound;
+    private volatile AudioMixer.Sample alienShootSound;
+    private volatile AudioMixer.Sample explosionSound;
+    private volatile AudioMixer.Sample playerExplosionSound;
+    private volatile AudioMixer.Sample menuSelectSound;
+    private volatile AudioMixer.Sample menuConfirmSound;
+    private volatile AudioMixer.Sample pauseSound;
+    private volatile AudioMixer.Sample gameOverSound;
+    private volatile AudioMixer.Sample victorySound;
+
+    // Synthesized sounds (rendered at startup): the march, and variants played in turn with the WAVs
+    private volatile AudioMixer.Sample[][] marchNotes;
+    private volatile AudioMixer.Sample[] playerShotVariants;
+    private volatile AudioMixer.Sample[] alienShotVariants;
+    private volatile AudioMixer.Sample[] explosionVariants;
+    private int marchNote;
+    private int playerShotTurn;
+    private int alienShotTurn;
+    private int explosionTurn;
+
+    // Background music, streamed from disk by the audio thread (audio thread only)
+    private File musicFile;
+    private MusicStream music;
+    private boolean musicPlaying;
+    private boolean musicWanted;    // Asked for, even if the mixer was not open yet
+
+    // Effects still being decoded, and when loading started
+    private final AtomicInteger soundsLoading = new AtomicInteger();
+    private long loadStartNanos;
     
+    // Commands for the audio thread (any thread posts, only the audio thread runs them)
+    private final ConcurrentLinkedQueue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final Thread audioThread;
+
     // Volume settings (0.0 to 1.0)
-    private float musicVolume = 0.5f;
-    private float sfxVolume = 0.7f;
+    private volatile float musicVolume = 0.5f;
+    private volatile float sfxVolume = 0.7f;
     
     // Mute settings
-    private boolean musicMuted = false;
-    private boolean sfxMuted = false;
+    private volatile boolean musicMuted = false;
+    private volatile boolean sfxMuted = false;
     
     // Sound enabled (for low-end devices)
-    private boolean soundEnabled = true;
+    private volatile boolean soundEnabled = true;
     
     /**
      * Private constructor (Singleton)
      */
     private SoundManager() {
+        audioThread = new Thread(this::runCommands, "audio-commands");
+        audioThread.setDaemon(true);
+        audioThread.start();
+
         loadSounds();
     }
     
@@ -55,138 +93,266 @@ public class SoundManager {
     }
     
     /**
-     * Load all sound files
+     * Start loading all sound files (returns at once)
+     * Effects are decoded in parallel on a small pool; music is only looked up,
+     * it streams from disk while it plays
      */
     private void loadSounds() {
-        // These will be null if files don't exist - game still works without sounds
-        playerShootClip = loadClip("player_shoot.wav");
-        alienShootClip = loadClip("alien_shoot.wav");
-        explosionClip = loadClip("explosion.wav");
-        playerExplosionClip = loadClip("player_explosion.wav");
-        menuSelectClip = loadClip("menu_select.wav");
-        menuConfirmClip = loadClip("menu_confirm.wav");
-        pauseClip = loadClip("pause.wav");
-        gameOverClip = loadClip("gameover.wav");
-        victoryClip = loadClip("victory.wav");
-        backgroundMusic = loadClip("background_music.wav");
+        loadStartNanos = System.nanoTime();
+        post(() -> {
+            File file = new File("resources/sounds/background_music.wav");
+            if (file.exists()) {
+                musicFile = file;
+            } else {
+                System.out.println("Sound file not found: " + file.getName() + " (game will continue without it)");
+            }
+        });
+
+        int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), Constants.SOUND_LOAD_THREADS));
+        ExecutorService loader = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "sound-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        loader.execute(() -> {
+            // No mixer means no audio device - skip decoding, the game runs silent
+            AudioMixer opened = AudioMixer.open();
+            if (opened == null) {
+                loader.shutdown();
+                return;
+            }
+            opened.setMasterGain(sfxVolume);
+            opened.setMusicGain(musicVolume);
+            mixer = opened;
+            post(this::startWantedMusic);   // Music asked for before the mixer was open
+
+            // These stay null if files don't exist - game still works without sounds
+            soundsLoading.set(10);
+            loader.execute(this::renderSynthSounds);
+            loadSound(loader, "player_shoot.wav", sound -> playerShootSound = sound);
+            loadSound(loader, "alien_shoot.wav", sound -> alienShootSound = sound);
+            loadSound(loader, "explosion.wav", sound -> explosionSound = sound);
+            loadSound(loader, "player_explosion.wav", sound -> playerExplosionSound = sound);
+            loadSound(loader, "menu_select.wav", sound -> menuSelectSound = sound);
+            loadSound(loader, "menu_confirm.wav", sound -> menuConfirmSound = sound);
+            loadSound(loader, "pause.wav", sound -> pauseSound = sound);
+            loadSound(loader, "gameover.wav", sound -> gameOverSound = sound);
+            loadSound(loader, "victory.wav", sound -> victorySound = sound);
+            loader.shutdown();   // Runs the queued decodes, then the threads end
+        });
     }
-    
+
     /**
-     * Load a single sound clip
+     * Render the synthesized sounds (loader pool)
      */
-    private Clip loadClip(String filename) {
-        try {
-            // Try to load from resources folder
-            File file = new File("resources/sounds/" + filename);
-            if (file.exists()) {
-                AudioInputStream audioStream = AudioSystem.getAudioInputStream(file);
-                Clip clip = AudioSystem.getClip();
-                clip.open(audioStream);
-                return clip;
-            } else {
-                System.out.println("Sound file not found: " + filename + " (game will continue without it)");
-                return null;
+    private void renderSynthSounds() {
+        long start = System.nanoTime();
+        marchNotes = SoundSynth.renderMarch();
+        playerShotVariants = SoundSynth.renderPlayerShots();
+        alienShotVariants = SoundSynth.renderAlienShots();
+        explosionVariants = SoundSynth.renderExplosions();
+        System.out.printf("Sound: synthesized effects rendered in %.1f ms%n", (System.nanoTime() - start) / 1e6);
+        loaded();
+    }
+
+    /**
+     * Decode a sound effect for the mixer on the loader pool
+     */
+    private void loadSound(ExecutorService loader, String filename, Consumer<AudioMixer.Sample> store) {
+        loader.execute(() -> {
+            long start = System.nanoTime();
+            AudioMixer.Sample sound = AudioMixer.decode(new File("resources/sounds/" + filename));
+            store.accept(sound);
+            if (sound != null) {
+                System.out.printf("Sound: %s decoded in %.1f ms%n", filename, (System.nanoTime() - start) / 1e6);
             }
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.out.println("Could not load sound: " + filename);
-            return null;
+
+            loaded();
+        });
+    }
+
+    /**
+     * One more sound ready - the last one logs the total against the startup budget
+     */
+    private void loaded() {
+        if (soundsLoading.decrementAndGet() == 0) {
+            double total = (System.nanoTime() - loadStartNanos) / 1e6;
+            System.out.printf("Sounds: loaded in %.1f ms (budget %d ms)%s%n", total, Constants.SOUND_LOAD_BUDGET_MS,
+                total > Constants.SOUND_LOAD_BUDGET_MS ? " - over budget" : "");
         }
     }
     
     /**
      * Play a sound effect
+     * @param x where it happens on screen (pans it), or centered
      */
-    private void playSFX(Clip clip) {
-        if (!soundEnabled || sfxMuted || clip == null) return;
-        
-        try {
-            // Stop if already playing
-            if (clip.isRunning()) {
-                clip.stop();
-            }
-            
-            // Rewind and play
-            clip.setFramePosition(0);
-            setVolume(clip, sfxVolume);
-            clip.start();
-        } catch (Exception e) {
-            // Ignore errors - game continues without sound
+    private void playSFX(AudioMixer.Sample sound, int priority, double x) {
+        if (!soundEnabled || sfxMuted || mixer == null) return;
+
+        float pan = (float) ((x / Constants.WINDOW_WIDTH) * 2 - 1) * Constants.AUDIO_PAN_WIDTH;
+        mixer.play(sound, 1f, pan, priority);
+    }
+
+    private void playSFX(AudioMixer.Sample sound, int priority) {
+        playSFX(sound, priority, Constants.WINDOW_WIDTH / 2.0);
+    }
+
+    /**
+     * The WAV or one of the synthesized variants, in turn
+     * (just the WAV until the variants are rendered, just the variants without a WAV)
+     */
+    private static AudioMixer.Sample pick(AudioMixer.Sample wav, AudioMixer.Sample[] variants, int turn) {
+        if (variants == null) return wav;
+        int index = turn % (variants.length + 1);
+        if (index == variants.length) {
+            return wav != null ? wav : variants[0];
         }
+        return variants[index];
     }
     
     /**
-     * Set volume on a clip (0.0 to 1.0)
+     * Hand a command to the audio thread (returns at once)
+     */
+    private void post(Runnable command) {
+        commands.offer(command);
+        LockSupport.unpark(audioThread);
+    }
+
+    /**
+     * Audio thread - run commands in the order they were posted and keep the music
+     * ring topped up; sleeps until the next command (or refill while music plays)
      */
-    private void setVolume(Clip clip, float volume) {
-        if (clip == null) return;
-        
-        try {
-            FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-            // Convert linear volume to decibels
-            float dB = (float) (Math.log(Math.max(volume, 0.0001)) / Math.log(10.0) * 20.0);
-            gainControl.setValue(Math.max(dB, gainControl.getMinimum()));
-        } catch (Exception e) {
-            // Volume control not supported - ignore
+    private void runCommands() {
+        while (true) {
+            Runnable command;
+            while ((command = commands.poll()) != null) {
+                try {
+                    command.run();
+                } catch (Exception e) {
+                    // Ignore errors - game continues without sound
+                }
+            }
+
+            if (musicPlaying) {
+                music.fill();
+                LockSupport.parkNanos(this, Constants.MUSIC_FILL_MS * 1_000_000L);
+            } else {
+                LockSupport.park(this);
+            }
         }
     }
     
     // SOUND EFFECT METHODS
 
-    public void playPlayerShoot() { playSFX(playerShootClip); }
+    public void playPlayerShoot(double x) {
+        playSFX(pick(playerShootSound, playerShotVariants, playerShotTurn++), AudioMixer.PRIORITY_LOW, x);
+    }
 
-    public void playAlienShoot() { playSFX(alienShootClip); }
+    public void playAlienShoot(double x) {
+        playSFX(pick(alienShootSound, alienShotVariants, alienShotTurn++), AudioMixer.PRIORITY_LOW, x);
+    }
     
-    public void playExplosion() { playSFX(explosionClip); }
+    public void playExplosion(double x) {
+        playSFX(pick(explosionSound, explosionVariants, explosionTurn++), AudioMixer.PRIORITY_NORMAL, x);
+    }
+
+    /**
+     * Next note of the march (one per formation step)
+     * @param speedTier the formation's speed tier - sets the note length
+     */
+    public void playMarchStep(int speedTier) {
+        AudioMixer.Sample[][] notes = marchNotes;
+        if (notes == null) return;
+
+        playSFX(notes[speedTier][marchNote], AudioMixer.PRIORITY_NORMAL);
+        marchNote = (marchNote + 1) % notes[speedTier].length;
+    }
      
-    public void playPlayerExplosion() { playSFX(playerExplosionClip); }
+    public void playPlayerExplosion(double x) { playSFX(playerExplosionSound, AudioMixer.PRIORITY_HIGH, x); }
     
-    public void playMenuSelect() { playSFX(menuSelectClip); }
+    public void playMenuSelect() { playSFX(menuSelectSound, AudioMixer.PRIORITY_NORMAL); }
 
-    public void playMenuConfirm() { playSFX(menuConfirmClip); }
+    public void playMenuConfirm() { playSFX(menuConfirmSound, AudioMixer.PRIORITY_NORMAL); }
 
-    public void playPause() { playSFX(pauseClip); }
+    public void playPause() { playSFX(pauseSound, AudioMixer.PRIORITY_NORMAL); }
     
-    public void playGameOver() { playSFX(gameOverClip); }
+    public void playGameOver() { playSFX(gameOverSound, AudioMixer.PRIORITY_HIGH); }
     
-    public void playVictory() { playSFX(victoryClip); }
+    public void playVictory() { playSFX(victorySound, AudioMixer.PRIORITY_HIGH); }
     
     // BACKGROUND MUSIC METHODS
     
-    public void playBackgroundMusic() {
-        if (!soundEnabled || musicMuted || backgroundMusic == null) return;
-        
-        try {
-            if (!backgroundMusic.isRunning()) {
-                backgroundMusic.setFramePosition(0);
-                setVolume(backgroundMusic, musicVolume);
-                backgroundMusic.loop(Clip.LOOP_CONTINUOUSLY);
-            }
-        } catch (Exception e) {
-            // Ignore errors
+    public void playBackgroundMusic() { post(this::startMusic); }
+    
+    public void stopBackgroundMusic() { post(this::stopMusic); }
+    
+    public void pauseBackgroundMusic() { post(this::pauseMusic); }
+    
+    public void resumeBackgroundMusic() { post(this::resumeMusic); }
+
+    // MUSIC COMMANDS (audio thread)
+    
+    /**
+     * Play the track from its start (unless it is playing already)
+     * Without a mixer yet, it starts once the mixer opens
+     */
+    private void startMusic() {
+        musicWanted = true;
+        if (!soundEnabled || musicMuted || musicFile == null || mixer == null || musicPlaying) return;
+
+        closeMusic();
+        music = MusicStream.open(musicFile);
+        if (music == null) return;
+        music.fill();   // Full ring before the mixer starts taking from it
+        mixer.setMusic(music);
+        musicPlaying = true;
+    }
+
+    /**
+     * Stop the music and let go of its file
+     */
+    private void stopMusic() {
+        pauseMusic();
+        closeMusic();
+    }
+
+    /**
+     * Stop taking from the stream; it keeps its place for resumeMusic()
+     */
+    private void pauseMusic() {
+        if (mixer != null) {
+            mixer.setMusic(null);
         }
+        musicPlaying = false;
+        musicWanted = false;
     }
     
-    public void stopBackgroundMusic() {
-        if (backgroundMusic != null && backgroundMusic.isRunning()) {
-            backgroundMusic.stop();
+    private void resumeMusic() {
+        if (music == null) {
+            startMusic();   // Never got going (no mixer when it was asked for)
+            return;
         }
+        musicWanted = true;
+        if (!soundEnabled || musicMuted || musicPlaying) return;
+
+        mixer.setMusic(music);
+        musicPlaying = true;
     }
-    
-    public void pauseBackgroundMusic() {
-        if (backgroundMusic != null && backgroundMusic.isRunning()) {
-            backgroundMusic.stop();
+
+    /**
+     * The mixer just opened - start the music if the game already asked for it
+     */
+    private void startWantedMusic() {
+        if (musicWanted) {
+            startMusic();
         }
     }
-    
-    public void resumeBackgroundMusic() {
-        if (!soundEnabled || musicMuted || backgroundMusic == null) return;
-        
-        try {
-            if (!backgroundMusic.isRunning()) {
-                backgroundMusic.loop(Clip.LOOP_CONTINUOUSLY);
-            }
-        } catch (Exception e) {
-            // Ignore errors
+
+    private void closeMusic() {
+        if (music != null) {
+            music.close();
+            music = null;
         }
     }
     
@@ -194,8 +360,8 @@ public class SoundManager {
     
     public void setMusicVolume(float volume) {
         this.musicVolume = Math.max(0, Math.min(1, volume));
-        if (backgroundMusic != null) {
-            setVolume(backgroundMusic, musicVolume);
+        if (mixer != null) {
+            mixer.setMusicGain(musicVolume);
         }
     }
     
@@ -203,6 +369,9 @@ public class SoundManager {
     
     public void setSfxVolume(float volume) {
         this.sfxVolume = Math.max(0, Math.min(1, volume));
+        if (mixer != null) {
+            mixer.setMasterGain(sfxVolume);
+        }
     }
     
     public float getSfxVolume() { return sfxVolume; }
@@ -211,16 +380,17 @@ public class SoundManager {
     
     public void setMusicMuted(boolean muted) {
         this.musicMuted = muted;
-        if (muted) {
-            stopBackgroundMusic();
-        } else {
-            playBackgroundMusic();
-        }
+        post(muted ? this::stopMusic : this::startMusic);
     }
     
     public boolean isMusicMuted() { return musicMuted; }
     
-    public void setSfxMuted(boolean muted) { this.sfxMuted = muted; }
+    public void setSfxMuted(boolean muted) {
+        this.sfxMuted = muted;
+        if (muted && mixer != null) {
+            mixer.stopAll();
+        }
+    }
     
     public boolean isSfxMuted() { return sfxMuted; }
     
@@ -229,7 +399,10 @@ public class SoundManager {
     public void setSoundEnabled(boolean enabled) {
         this.soundEnabled = enabled;
         if (!enabled) {
-            stopBackgroundMusic();
+            post(this::stopMusic);
+            if (mixer != null) {
+                mixer.stopAll();
+            }
         }
     }
     
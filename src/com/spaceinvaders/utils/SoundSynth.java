@@ -0,0 +1,131 @@
+package com.spaceinvaders.utils;
+
+import java.util.Random;
+
+/**
+ * Sound synthesizer - builds arcade-style effects from square and noise oscillators
+ * Every sound is rendered once into a sample (at startup, on the loader pool),
+ * so playing one costs the same as playing a WAV
+ * Sounds: the four-note march in one tempo per formation speed tier, and
+ * a few variants of the shots and the explosion
+ */
+public final class SoundSynth {
+
+    private static final int RATE = Constants.AUDIO_SAMPLE_RATE;
+
+    // March notes, descending (G2, F2, D#2, D2)
+    private static final double[] MARCH_NOTES = {98.0, 87.31, 77.78, 73.42};
+
+    // Variants of each effect (start pitch for the shots, noise seed for the explosion)
+    private static final double[] PLAYER_SHOT_PITCHES = {1100, 1250, 1400};
+    private static final double[] ALIEN_SHOT_PITCHES = {480, 540, 600};
+    private static final long[] EXPLOSION_SEEDS = {1, 2, 3};
+
+    private SoundSynth() {} // Static helper only
+
+    /**
+     * March notes for every speed tier
+     * A note lasts part of the beat, so at the faster tiers the notes get shorter
+     * @return [tier][note]
+     */
+    public static AudioMixer.Sample[][] renderMarch() {
+        AudioMixer.Sample[][] notes = new AudioMixer.Sample[Constants.ALIEN_SPEED_TIERS.length][MARCH_NOTES.length];
+        for (int tier = 0; tier < notes.length; tier++) {
+            double beatMs = Constants.ALIEN_MARCH_STEP / (Constants.ALIEN_SPEED_PER_SEC * Constants.ALIEN_SPEED_TIERS[tier]) * 1000;
+            int lengthMs = (int) Math.min(Constants.SYNTH_MARCH_NOTE_MS, beatMs * 0.6);
+            for (int note = 0; note < MARCH_NOTES.length; note++) {
+                notes[tier][note] = square(MARCH_NOTES[note], MARCH_NOTES[note], 0.5, lengthMs, 0.28);
+            }
+        }
+        return notes;
+    }
+
+    /**
+     * Player shot variants - a fast falling square "pew"
+     */
+    public static AudioMixer.Sample[] renderPlayerShots() {
+        AudioMixer.Sample[] shots = new AudioMixer.Sample[PLAYER_SHOT_PITCHES.length];
+        for (int i = 0; i < shots.length; i++) {
+            shots[i] = square(PLAYER_SHOT_PITCHES[i], PLAYER_SHOT_PITCHES[i] / 4, 0.25, 120, 0.35);
+        }
+        return shots;
+    }
+
+    /**
+     * Alien shot variants - a lower, slower falling tone
+     */
+    public static AudioMixer.Sample[] renderAlienShots() {
+        AudioMixer.Sample[] shots = new AudioMixer.Sample[ALIEN_SHOT_PITCHES.length];
+        for (int i = 0; i < shots.length; i++) {
+            shots[i] = square(ALIEN_SHOT_PITCHES[i], ALIEN_SHOT_PITCHES[i] / 3, 0.5, 180, 0.2);
+        }
+        return shots;
+    }
+
+    /**
+     * Explosion variants - noise whose pitch falls as it fades
+     */
+    public static AudioMixer.Sample[] renderExplosions() {
+        AudioMixer.Sample[] explosions = new AudioMixer.Sample[EXPLOSION_SEEDS.length];
+        for (int i = 0; i < explosions.length; i++) {
+            explosions[i] = noise(EXPLOSION_SEEDS[i], 6000, 700, 380, 0.3);
+        }
+        return explosions;
+    }
+
+    /**
+     * Square wave with a pitch sweep
+     * @param duty share of each period spent high (0.5 = plain square)
+     */
+    private static AudioMixer.Sample square(double startHz, double endHz, double duty, int lengthMs, double volume) {
+        int frames = RATE * lengthMs / 1000;
+        short[] data = new short[frames * 2];
+        double phase = 0;
+        for (int f = 0; f < frames; f++) {
+            double t = (double) f / frames;
+            phase += (startHz + (endHz - startHz) * t) / RATE;
+            phase -= Math.floor(phase);
+
+            short value = (short) ((phase < duty ? 1 : -1) * envelope(f, frames) * volume * Short.MAX_VALUE);
+            data[f * 2] = value;
+            data[f * 2 + 1] = value;
+        }
+        return new AudioMixer.Sample(data);
+    }
+
+    /**
+     * Sample-and-hold noise: a new random level at the given rate, falling over time
+     */
+    private static AudioMixer.Sample noise(long seed, double startHz, double endHz, int lengthMs, double volume) {
+        Random random = new Random(seed);
+        int frames = RATE * lengthMs / 1000;
+        short[] data = new short[frames * 2];
+        double phase = 0;
+        double level = 0;
+        for (int f = 0; f < frames; f++) {
+            double t = (double) f / frames;
+            phase += (startHz + (endHz - startHz) * t) / RATE;
+            if (phase >= 1) {
+                phase -= Math.floor(phase);
+                level = random.nextDouble() * 2 - 1;
+            }
+
+            short value = (short) (level * envelope(f, frames) * volume * Short.MAX_VALUE);
+            data[f * 2] = value;
+            data[f * 2 + 1] = value;
+        }
+        return new AudioMixer.Sample(data);
+    }
+
+    /**
+     * Short attack (no click), then an exponential fade to silence at the end
+     */
+    private static double envelope(int frame, int frames) {
+        int attack = RATE * Constants.SYNTH_ATTACK_MS / 1000;
+        if (frame < attack) {
+            return (double) frame / attack;
+        }
+        double t = (double) (frame - attack) / Math.max(1, frames - attack);
+        return Math.exp(-4 * t) * (1 - t);
+    }
+}